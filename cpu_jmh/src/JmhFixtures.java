@@ -0,0 +1,155 @@
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// the emulator side of the JMH benchmarks. JMH refuses benchmark classes in the
+// default package and a named package can't see Cpu, so the benchmarks in
+// cpujmh look these factories up by name once per trial and only call the
+// returned workloads while measuring. Each benchmark runs in its own fork, so
+// the call sites stay monomorphic and the workload inlines like a direct call.
+//
+// Opcode counting is switched off on every console so the numbers are the
+// interpreter alone, not the CPU_OPCODE_STATS default
+public class JmhFixtures {
+    private static int nextId = 0;
+
+    // console on an in-memory image of one of the BenchPrograms, no memory_service
+    static Cpu console(String program, String engine, boolean superinstructions) {
+        int[] code;
+        switch (program) {
+            case "registers":
+                code = BenchPrograms.REGISTERS;
+                break;
+            case "mixed":
+                code = BenchPrograms.MIXED;
+                break;
+            case "copy":
+                code = BenchPrograms.COPY;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown program " + program);
+        }
+        Cpu cpu = BenchPrograms.console(nextId++, code);
+        cpu.setEngine(Cpu.Engine.parse(engine));
+        cpu.setOpcodeStatsEnabled(false);
+        cpu.setTrace(0);
+        cpu.setSuperinstructionsEnabled(superinstructions);
+        return cpu;
+    }
+
+    // steps calls to step_no_stdout; returns the cycle count so nothing is dead
+    public static LongSupplier steps(String program, String engine, boolean superinstructions, int steps) {
+        Cpu cpu = console(program, engine, superinstructions);
+        return () -> {
+            for (int i = 0; i < steps; i++) {
+                cpu.step_no_stdout();
+            }
+            return cpu.getCycles();
+        };
+    }
+
+    // one frame's worth of cycles through runCycles, comparable across engines
+    public static LongSupplier frame(String program, String engine, boolean superinstructions) {
+        Cpu cpu = console(program, engine, superinstructions);
+        return () -> cpu.runCycles(Cpu.CYCLES_PER_FRAME);
+    }
+
+    // where handler benchmarks fetch their immediates from
+    private static final int OPERANDS = 0x0200;
+
+    // a single handler called directly, op is "0x2A" or "0xCB37"; registers are
+    // put back before every call so each one does the same work (HL in WRAM,
+    // B never reaching zero, immediates pointing at HRAM and a short JR)
+    public static LongSupplier handler(String op, String engine) {
+        int opcode = Integer.decode(op);
+        boolean cb = opcode > 0xFF;
+        boolean table = Cpu.Engine.parse(engine) == Cpu.Engine.TABLE;
+        Instruction ins = cb ? InstructionDecoder.getCBIns(opcode & 0xFF) : InstructionDecoder.getIns(opcode);
+        if (ins == null) {
+            throw new IllegalArgumentException("no handler for " + op);
+        }
+
+        byte[] image = BenchPrograms.image(new int[0]);
+        image[OPERANDS] = (byte) 0x80;
+        image[OPERANDS + 1] = (byte) 0xC0;
+        Cpu cpu = new Cpu(nextId++);
+        Io.loadImage(cpu, image);
+        cpu.setOpcodeStatsEnabled(false);
+        cpu.setTrace(0);
+
+        return () -> {
+            cpu.setPC(OPERANDS);
+            cpu.setSP(0xFFFE);
+            cpu.setHL(0xC000);
+            cpu.setB(0x40);
+            if (table) {
+                ins.execute(cpu);
+            } else if (cb) {
+                SwitchInterpreter.executeCB(cpu, opcode & 0xFF);
+            } else {
+                SwitchInterpreter.execute(cpu, opcode);
+            }
+            return cpu.getAF();
+        };
+    }
+
+    // one flag helper per call, with inputs that change so nothing folds away
+    public static LongSupplier flags(String helper) {
+        Cpu cpu = new Cpu(nextId++);
+        int[] n = new int[1];
+        switch (helper) {
+            case "updateZ":
+                return () -> {
+                    cpu.updateZ((n[0]++ & 1) == 0);
+                    return cpu.getF();
+                };
+            case "setFlags":
+                return () -> {
+                    cpu.setFlags(n[0]++ << 4);
+                    return cpu.getF();
+                };
+            case "setFlagsKeepCarry":
+                return () -> {
+                    cpu.setFlagsKeepCarry(n[0]++ << 4);
+                    return cpu.getF();
+                };
+            case "flagsLogic":
+                return () -> {
+                    int v = n[0]++;
+                    cpu.flagsLogic(v & 0xFF, (v & 0x100) != 0);
+                    return cpu.getF();
+                };
+            default:
+                throw new IllegalArgumentException("unknown flag helper " + helper);
+        }
+    }
+
+    // Cpu.read8/write8 on the in-memory bus, walking WRAM so no access is the same twice in a row
+    public static LongSupplier bus(String access) {
+        Cpu cpu = console("mixed", "table", true);
+        int[] n = new int[1];
+        switch (access) {
+            case "read":
+                return () -> cpu.read8(0xC000 | (n[0]++ & 0x1FFF));
+            case "write":
+                return () -> {
+                    int v = n[0]++;
+                    cpu.write8(0xC000 | (v & 0x1FFF), v);
+                    return v;
+                };
+            default:
+                throw new IllegalArgumentException("unknown bus access " + access);
+        }
+    }
+
+    // a bare Cpu, or one with a 64KB image loaded as a standalone console would
+    public static Supplier<Object> construct(boolean image) {
+        byte[] bytes = BenchPrograms.image(BenchPrograms.MIXED);
+        return () -> {
+            Cpu cpu = new Cpu(nextId++);
+            if (image) {
+                Io.loadImage(cpu, bytes);
+            }
+            return cpu;
+        };
+    }
+}
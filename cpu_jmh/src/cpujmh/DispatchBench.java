@@ -0,0 +1,60 @@
+package cpujmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cpu.step_no_stdout and runCycles on the BenchPrograms instruction mixes.
+// step is ns per step; a step can be a whole compiled block on the tiered
+// engine or a superinstruction, so compare those on frame (ns per emulated
+// frame) instead
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBench {
+    private static final int STEPS = 1000;
+
+    @Param({ "registers", "mixed", "copy" })
+    public String program;
+
+    @Param({ "table", "switch", "tiered" })
+    public String engine;
+
+    @Param({ "true", "false" })
+    public boolean superinstructions;
+
+    private LongSupplier steps;
+    private LongSupplier frame;
+
+    @Setup
+    public void setup() {
+        steps = Fixture.get("steps", program, engine, superinstructions, STEPS);
+        frame = Fixture.get("frame", program, engine, superinstructions);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long step() {
+        return steps.getAsLong();
+    }
+
+    @Benchmark
+    public long frame() {
+        return frame.getAsLong();
+    }
+}
@@ -0,0 +1,24 @@
+package cpujmh;
+
+import java.lang.reflect.Method;
+
+// looks up a factory on the default-package JmhFixtures, which this package
+// can't name at compile time; only called from @Setup
+final class Fixture {
+    private Fixture() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T get(String name, Object... args) {
+        try {
+            for (Method m : Class.forName("JmhFixtures").getMethods()) {
+                if (m.getName().equals(name) && m.getParameterCount() == args.length) {
+                    return (T) m.invoke(null, args);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("fixture " + name + " failed", e);
+        }
+        throw new IllegalArgumentException("no fixture " + name);
+    }
+}
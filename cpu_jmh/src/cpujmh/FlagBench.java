@@ -0,0 +1,57 @@
+package cpujmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// the Cpu flag helpers the handlers lean on
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagBench {
+    private LongSupplier updateZ;
+    private LongSupplier setFlags;
+    private LongSupplier setFlagsKeepCarry;
+    private LongSupplier flagsLogic;
+
+    @Setup
+    public void setup() {
+        updateZ = Fixture.get("flags", "updateZ");
+        setFlags = Fixture.get("flags", "setFlags");
+        setFlagsKeepCarry = Fixture.get("flags", "setFlagsKeepCarry");
+        flagsLogic = Fixture.get("flags", "flagsLogic");
+    }
+
+    @Benchmark
+    public long updateZ() {
+        return updateZ.getAsLong();
+    }
+
+    @Benchmark
+    public long setFlags() {
+        return setFlags.getAsLong();
+    }
+
+    @Benchmark
+    public long setFlagsKeepCarry() {
+        return setFlagsKeepCarry.getAsLong();
+    }
+
+    @Benchmark
+    public long flagsLogic() {
+        return flagsLogic.getAsLong();
+    }
+}
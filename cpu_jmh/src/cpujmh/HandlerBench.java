@@ -0,0 +1,45 @@
+package cpujmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// single opcode handlers called directly, without fetch, decode or the block
+// cache; the opcodes are the ones that top /opstats on typical game code
+// (polling and copy loops, branches and compares)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBench {
+    @Param({ "0x20", "0x2A", "0x22", "0x05", "0x7E", "0xF0", "0xFE", "0xCB37" })
+    public String opcode;
+
+    @Param({ "table", "switch" })
+    public String engine;
+
+    private LongSupplier handler;
+
+    @Setup
+    public void setup() {
+        handler = Fixture.get("handler", opcode, engine);
+    }
+
+    @Benchmark
+    public long execute() {
+        return handler.getAsLong();
+    }
+}
@@ -0,0 +1,137 @@
+// synthetic SM83 programs for the benchmarks, run from an in-memory image
+// so no memory_service is needed
+public class BenchPrograms {
+    public static final int ENTRY = 0x0100;
+
+    // copy/transform loop over WRAM with a CALL/RET and stack traffic, a rough
+    // stand-in for the loads, ALU ops and branches that dominate game code
+    public static final int[] MIXED = {
+        0x31, 0xFE, 0xFF,       // 0100: LD SP, 0xFFFE
+        0x21, 0x00, 0xC0,       // 0103: LD HL, 0xC000
+        0x06, 0x40,             // 0106: LD B, 0x40
+        0x7E,                   // 0108: LD A, (HL)
+        0x80,                   // 0109: ADD A, B
+        0xA9,                   // 010A: XOR C
+        0x22,                   // 010B: LD (HL+), A
+        0x0C,                   // 010C: INC C
+        0x05,                   // 010D: DEC B
+        0x20, 0xF8,             // 010E: JR NZ, 0x0108
+        0xCD, 0x20, 0x01,       // 0110: CALL 0x0120
+        0xC3, 0x03, 0x01,       // 0113: JP 0x0103
+        0x00, 0x00, 0x00, 0x00, // 0116: padding
+        0x00, 0x00, 0x00, 0x00,
+        0x00, 0x00,
+        0xC5,                   // 0120: PUSH BC
+        0xCB, 0x37,             // 0121: SWAP A
+        0xC1,                   // 0123: POP BC
+        0xE6, 0x0F,             // 0124: AND 0x0F
+        0xFE, 0x08,             // 0126: CP 0x08
+        0xC9,                   // 0128: RET
+    };
+
+    // register-to-register loads, 8-bit ALU and 16-bit INC/DEC with no memory
+    // operands, so the cost is dominated by register file access and flags
+    public static final int[] REGISTERS = {
+        0x01, 0x34, 0x12,       // 0100: LD BC, 0x1234
+        0x11, 0x78, 0x56,       // 0103: LD DE, 0x5678
+        0x3E, 0x9A,             // 0106: LD A, 0x9A
+        0x80,                   // 0108: ADD A, B
+        0x89,                   // 0109: ADC A, C
+        0x92,                   // 010A: SUB D
+        0x9B,                   // 010B: SBC A, E
+        0xA0,                   // 010C: AND B
+        0xB1,                   // 010D: OR C
+        0xAA,                   // 010E: XOR D
+        0xBB,                   // 010F: CP E
+        0x47,                   // 0110: LD B, A
+        0x4F,                   // 0111: LD C, A
+        0x50,                   // 0112: LD D, B
+        0x59,                   // 0113: LD E, C
+        0x3C,                   // 0114: INC A
+        0x1D,                   // 0115: DEC E
+        0x03,                   // 0116: INC BC
+        0x1B,                   // 0117: DEC DE
+        0xCB, 0x37,             // 0118: SWAP A
+        0xCB, 0x10,             // 011A: RL B
+        0x2F,                   // 011C: CPL
+        0x15,                   // 011D: DEC D
+        0x20, 0xE8,             // 011E: JR NZ, 0x0108
+        0xC3, 0x00, 0x01,       // 0120: JP 0x0100
+    };
+
+    // block copies from ROM to WRAM, the LD A,(HL+) / LD (DE),A / DEC B / JR NZ
+    // loop that game code spends much of its time in
+    public static final int[] COPY = {
+        0x0E, 0x20,             // 0100: LD C, 0x20
+        0x21, 0x00, 0x01,       // 0102: LD HL, 0x0100
+        0x11, 0x00, 0xC0,       // 0105: LD DE, 0xC000
+        0x06, 0x40,             // 0108: LD B, 0x40
+        0x2A,                   // 010A: LD A, (HL+)
+        0x12,                   // 010B: LD (DE), A
+        0x13,                   // 010C: INC DE
+        0x05,                   // 010D: DEC B
+        0x20, 0xFA,             // 010E: JR NZ, 0x010A
+        0x0D,                   // 0110: DEC C
+        0x20, 0xF5,             // 0111: JR NZ, 0x0108
+        0xC3, 0x00, 0x01,       // 0113: JP 0x0100
+    };
+
+    // LY polling with the timer running: the main loop waits for line 0x90
+    // to come and go while TIMA overflows every 4096 cycles
+    public static final int[] TIMER_POLL = {
+        0x31, 0xFE, 0xFF,       // 0100: LD SP, 0xFFFE
+        0x11, 0x00, 0x00,       // 0103: LD DE, 0x0000
+        0x3E, 0x05,             // 0106: LD A, 0x05
+        0xE0, 0x07,             // 0108: LDH (TAC), A
+        0x3E, 0x04,             // 010A: LD A, 0x04
+        0xE0, 0xFF,             // 010C: LDH (IE), A
+        0xFB,                   // 010E: EI
+        0xF0, 0x44,             // 010F: LDH A, (LY)
+        0xFE, 0x90,             // 0111: CP 0x90
+        0x20, 0xFA,             // 0113: JR NZ, 0x010F
+        0xF0, 0x44,             // 0115: LDH A, (LY)
+        0xFE, 0x90,             // 0117: CP 0x90
+        0x28, 0xFA,             // 0119: JR Z, 0x0115
+        0x18, 0xF2,             // 011B: JR 0x010F
+    };
+
+    // timer interrupt handler for TIMER_POLL, at 0x0050: adds TIMA to DE, so
+    // DE shows how late after each overflow the interrupt was served
+    public static final int[] TIMER_HANDLER = {
+        0xF5,                   // 0050: PUSH AF
+        0xF0, 0x05,             // 0051: LDH A, (TIMA)
+        0x83,                   // 0053: ADD A, E
+        0x5F,                   // 0054: LD E, A
+        0x30, 0x01,             // 0055: JR NC, 0x0058
+        0x14,                   // 0057: INC D
+        0xF1,                   // 0058: POP AF
+        0xD9,                   // 0059: RETI
+    };
+
+    // 64KB image with the program at 0x0100 and the boot ROM unmapped
+    public static byte[] image(int[] program) {
+        byte[] image = new byte[0x10000];
+        for (int i = 0; i < program.length; i++) {
+            image[ENTRY + i] = (byte) program[i];
+        }
+        image[0xFF50] = 1;
+        return image;
+    }
+
+    // image() with a timer interrupt handler installed
+    public static byte[] image(int[] program, int[] timerHandler) {
+        byte[] image = image(program);
+        for (int i = 0; i < timerHandler.length; i++) {
+            image[0x0050 + i] = (byte) timerHandler[i];
+        }
+        return image;
+    }
+
+    public static Cpu console(int id, int[] program) {
+        Cpu cpu = new Cpu(id);
+        Io.loadImage(cpu, image(program));
+        cpu.setPC((short) ENTRY);
+        cpu.setSP((short) 0xFFFE);
+        return cpu;
+    }
+}
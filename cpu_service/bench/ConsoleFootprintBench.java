@@ -0,0 +1,61 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+// measures what it costs to bring up consoles: one-time dispatch table init,
+// then construction time and retained heap per Cpu for 1 .. 10,000 instances
+public class ConsoleFootprintBench {
+    private static final int[] COUNTS = { 1, 10, 100, 1_000, 10_000 };
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        // first touch initializes the shared table
+        long start = System.nanoTime();
+        InstructionDecoder.getIns(0x00);
+        long tableNs = System.nanoTime() - start;
+        System.out.printf("dispatch table init: %.3f ms (once per process)%n", tableNs / 1e6);
+
+        // warm up the constructor path
+        for (int i = 0; i < 20_000; i++) {
+            new Cpu(i);
+        }
+
+        System.out.printf("%8s %14s %14s %14s%n", "consoles", "total ms", "ns/console", "bytes/console");
+
+        for (int count : COUNTS) {
+            long bestNs = Long.MAX_VALUE;
+            long bytes = 0;
+
+            for (int round = 0; round < ROUNDS; round++) {
+                Cpu[] consoles = new Cpu[count];
+
+                long heapBefore = usedHeap(memory);
+                long t0 = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    consoles[i] = new Cpu(i);
+                }
+                long elapsed = System.nanoTime() - t0;
+                long heapAfter = usedHeap(memory);
+
+                bestNs = Math.min(bestNs, elapsed);
+                bytes = Math.max(0, heapAfter - heapBefore);
+
+                // keep the consoles reachable until after the heap sample
+                if (consoles[count - 1].getId() != count - 1) {
+                    throw new IllegalStateException();
+                }
+            }
+
+            System.out.printf("%8d %14.3f %14.1f %14d%n",
+                count, bestNs / 1e6, (double) bestNs / count, bytes / count);
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
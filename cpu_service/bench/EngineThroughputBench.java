@@ -0,0 +1,54 @@
+// side-by-side throughput of the Instruction-table and switch engines, with
+// and without the block cache, in emulated MHz (4.194 MHz is real hardware speed)
+public class EngineThroughputBench {
+    private static final long WARMUP_NS = 3_000_000_000L;
+    private static final long MEASURE_NS = 2_000_000_000L;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Cpu.Engine[] engines = Cpu.Engine.values();
+        boolean[] blockCache = { false, true };
+
+        for (Cpu.Engine engine : engines) {
+            for (boolean blocks : blockCache) {
+                run(engine, blocks, WARMUP_NS);
+            }
+        }
+
+        System.out.printf("%-8s %-8s %12s %12s%n", "engine", "blocks", "best MHz", "mean MHz");
+        for (Cpu.Engine engine : engines) {
+            for (boolean blocks : blockCache) {
+                double best = 0;
+                double total = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    double mhz = run(engine, blocks, MEASURE_NS);
+                    best = Math.max(best, mhz);
+                    total += mhz;
+                }
+                System.out.printf("%-8s %-8s %12.2f %12.2f%n",
+                    engine.name().toLowerCase(), blocks ? "on" : "off", best, total / ROUNDS);
+            }
+        }
+    }
+
+    private static int nextId = 0;
+
+    private static double run(Cpu.Engine engine, boolean blocks, long durationNs) throws Exception {
+        Cpu cpu = BenchPrograms.console(nextId++, BenchPrograms.MIXED);
+        cpu.setEngine(engine);
+        cpu.setBlockCacheEnabled(blocks);
+
+        long cyclesBefore = cpu.getCycles();
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 10_000; i++) {
+                cpu.step_no_stdout();
+            }
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNs);
+
+        long cycles = cpu.getCycles() - cyclesBefore;
+        return cycles / (elapsed / 1e9) / 1e6;
+    }
+}
@@ -0,0 +1,45 @@
+// differential check for the idle-loop fast-forward: TIMER_POLL run with the
+// skip on and off on every engine, which all have to end in the same state.
+// Exits 1 on a mismatch, so `make bench BENCH=IdleSkipCheck` fails
+public class IdleSkipCheck {
+    private static final int FRAMES = 400;
+
+    public static void main(String[] args) throws Exception {
+        boolean ok = true;
+        String first = null;
+        for (Cpu.Engine engine : Cpu.Engine.values()) {
+            Cpu on = run(engine, true);
+            Cpu off = run(engine, false);
+            String onState = HeadlessRunner.stateHash(on);
+            String offState = HeadlessRunner.stateHash(off);
+            if (first == null) {
+                first = offState;
+            }
+            boolean same = onState.equals(offState) && offState.equals(first);
+            ok &= same;
+            System.out.printf("%-8s skip on %s DE=%04X  off %s DE=%04X  %s (%d skips)%n",
+                engine.name().toLowerCase(), onState, on.getDE(), offState, off.getDE(),
+                same ? "ok" : "MISMATCH", on.getIdleSkips());
+        }
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static int nextId = 0;
+
+    private static Cpu run(Cpu.Engine engine, boolean idleSkip) {
+        Cpu cpu = new Cpu(nextId++);
+        Io.loadImage(cpu, BenchPrograms.image(BenchPrograms.TIMER_POLL, BenchPrograms.TIMER_HANDLER));
+        cpu.setPC((short) BenchPrograms.ENTRY);
+        cpu.setSP((short) 0xFFFE);
+        cpu.setEngine(engine);
+        cpu.setIdleSkipEnabled(idleSkip);
+        cpu.setOpcodeStatsEnabled(false);
+        cpu.setTrace(0);
+        for (int frame = 0; frame < FRAMES; frame++) {
+            cpu.runFrame();
+        }
+        return cpu;
+    }
+}
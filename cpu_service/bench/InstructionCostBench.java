@@ -0,0 +1,56 @@
+// average host nanoseconds per emulated instruction on the interpreters, for a
+// register/ALU-only loop and for the mixed load/store program (the tiered engine
+// runs a whole compiled block per step, so steps don't count instructions there)
+public class InstructionCostBench {
+    private static final Cpu.Engine[] ENGINES = { Cpu.Engine.TABLE, Cpu.Engine.SWITCH };
+    private static final long WARMUP_NS = 3_000_000_000L;
+    private static final long MEASURE_NS = 2_000_000_000L;
+    private static final int ROUNDS = 5;
+    private static final int BATCH = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        String[] names = { "registers", "mixed" };
+        int[][] programs = { BenchPrograms.REGISTERS, BenchPrograms.MIXED };
+
+        for (Cpu.Engine engine : ENGINES) {
+            for (int[] program : programs) {
+                run(engine, program, WARMUP_NS);
+            }
+        }
+
+        System.out.printf("%-8s %-10s %12s %12s%n", "engine", "program", "best ns/ins", "mean ns/ins");
+        for (Cpu.Engine engine : ENGINES) {
+            for (int p = 0; p < programs.length; p++) {
+                double best = Double.MAX_VALUE;
+                double total = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    double ns = run(engine, programs[p], MEASURE_NS);
+                    best = Math.min(best, ns);
+                    total += ns;
+                }
+                System.out.printf("%-8s %-10s %12.2f %12.2f%n",
+                    engine.name().toLowerCase(), names[p], best, total / ROUNDS);
+            }
+        }
+    }
+
+    private static int nextId = 0;
+
+    private static double run(Cpu.Engine engine, int[] program, long durationNs) throws Exception {
+        Cpu cpu = BenchPrograms.console(nextId++, program);
+        cpu.setEngine(engine);
+
+        long instructions = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < BATCH; i++) {
+                cpu.step_no_stdout();
+            }
+            instructions += BATCH;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNs);
+
+        return (double) elapsed / instructions;
+    }
+}
@@ -0,0 +1,71 @@
+// consoles per core: N independent Cpus run a frame each in turn on this
+// thread, against a LockstepBatch of N running the same program, in total
+// emulated MHz (4.194 MHz is one console at real time). "split" starts the
+// batch's instances 0-3 instructions apart, so it runs as four groups
+public class LockstepBatchBench {
+    private static final int[] SIZES = { 1, 16, 64, 256 };
+    private static final long WARMUP_NS = 2_000_000_000L;
+    private static final long MEASURE_NS = 2_000_000_000L;
+    private static final int ROUNDS = 3;
+
+    // instruction starts in MIXED: LD SP / LD HL / LD B / LD A,(HL)
+    private static final int[] STARTS = { 0x0100, 0x0103, 0x0106, 0x0108 };
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            consoles(size, WARMUP_NS);
+            batch(size, false, WARMUP_NS);
+            batch(size, true, WARMUP_NS);
+        }
+
+        System.out.printf("%9s %14s %14s %14s %10s%n", "instances", "cpus MHz", "batch MHz", "split MHz", "speedup");
+        for (int size : SIZES) {
+            double cpus = 0;
+            double batch = 0;
+            double split = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                cpus = Math.max(cpus, consoles(size, MEASURE_NS));
+                batch = Math.max(batch, batch(size, false, MEASURE_NS));
+                split = Math.max(split, batch(size, true, MEASURE_NS));
+            }
+            System.out.printf("%9d %14.2f %14.2f %14.2f %9.1fx%n", size, cpus, batch, split, batch / cpus);
+        }
+    }
+
+    private static int nextId = 0;
+
+    private static double consoles(int size, long durationNs) {
+        Cpu[] cpus = new Cpu[size];
+        for (int i = 0; i < size; i++) {
+            cpus[i] = BenchPrograms.console(nextId++, BenchPrograms.MIXED);
+        }
+
+        long cycles = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (Cpu cpu : cpus) {
+                cycles += cpu.runFrame();
+            }
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNs);
+        return cycles / (elapsed / 1e9) / 1e6;
+    }
+
+    private static double batch(int size, boolean split, long durationNs) {
+        LockstepBatch batch = new LockstepBatch(size, BenchPrograms.image(BenchPrograms.MIXED));
+        for (int k = 0; k < size; k++) {
+            batch.setPC(k, split ? STARTS[k % STARTS.length] : BenchPrograms.ENTRY);
+            batch.setSP(k, 0xFFFE);
+        }
+
+        long cycles = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            cycles += batch.runFrame();
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < durationNs);
+        return cycles / (elapsed / 1e9) / 1e6;
+    }
+}
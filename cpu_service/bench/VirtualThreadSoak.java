@@ -0,0 +1,162 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// starts N consoles with start() and keeps them running against a stand-in for
+// memory_service (a child process, so each side gets its own file descriptor
+// limit), so page loads and commits are real blocking HTTP calls; reports
+// liveness, OS thread count, heap and virtual thread pinning
+//
+//   MEMORY_SERVICE_URI=http://127.0.0.1:18080 java VirtualThreadSoak [consoles] [seconds] [virtual|platform|scheduled]
+public class VirtualThreadSoak {
+    private static final long REPORT_NS = 10_000_000_000L;
+    private static final int STUB_LATENCY_MS = 2;
+
+    // stub process only
+    private static Map<Integer, byte[]> memory;
+    private static byte[] template;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "stub".equals(args[0])) {
+            startMemoryStub(Integer.parseInt(args[1]));
+            return;
+        }
+
+        int consoles = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        Cpu.ThreadMode mode = args.length > 2 ? Cpu.ThreadMode.parse(args[2]) : Cpu.ThreadMode.VIRTUAL;
+
+        String uri = System.getenv("MEMORY_SERVICE_URI");
+        if (uri == null) {
+            System.err.println("set MEMORY_SERVICE_URI to a free local address, e.g. http://127.0.0.1:18080");
+            System.exit(1);
+        }
+        Process stub = new ProcessBuilder(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-cp", System.getProperty("java.class.path"),
+                VirtualThreadSoak.class.getName(), "stub", Integer.toString(URI.create(uri).getPort()))
+            .inheritIO()
+            .start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::destroy));
+        Thread.sleep(1000);
+
+        // load and initialize the emulator classes up front, not from 10k threads at once
+        BenchPrograms.console(-1, BenchPrograms.REGISTERS).runCycles(1_000_000);
+
+        AtomicLong pinned = new AtomicLong();
+        RecordingStream pins = new RecordingStream();
+        pins.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+        pins.onEvent("jdk.VirtualThreadPinned", e -> pinned.incrementAndGet());
+        pins.startAsync();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean heap = ManagementFactory.getMemoryMXBean();
+
+        Cpu[] cpus = new Cpu[consoles];
+        for (int i = 0; i < consoles; i++) {
+            cpus[i] = new Cpu(i);
+            cpus[i].setPC(BenchPrograms.ENTRY);
+            cpus[i].setSP(0xFFFE);
+            cpus[i].setThreadMode(mode);
+        }
+
+        long start = System.nanoTime();
+        for (Cpu cpu : cpus) {
+            cpu.start();
+        }
+        System.out.printf("%d consoles started on %s threads in %.0f ms, %d cores%n",
+            consoles, mode.name().toLowerCase(), (System.nanoTime() - start) / 1e6,
+            Runtime.getRuntime().availableProcessors());
+
+        // advanced: consoles that executed instructions since the previous report
+        System.out.printf("%8s %9s %9s %10s %10s %10s %8s %8s%n",
+            "seconds", "running", "advanced", "frames", "late", "os threads", "heap MB", "pinned");
+        long[] lastCycles = new long[consoles];
+        long end = start + seconds * 1_000_000_000L;
+        long next = start;
+        while (System.nanoTime() < end) {
+            next = Math.min(next + REPORT_NS, end);
+            Thread.sleep(Math.max(0, (next - System.nanoTime()) / 1_000_000));
+
+            int running = 0;
+            int advanced = 0;
+            long frames = 0;
+            long late = 0;
+            for (int i = 0; i < consoles; i++) {
+                Cpu cpu = cpus[i];
+                if (cpu.isRunning()) {
+                    running++;
+                }
+                long cycles = cpu.getCycles();
+                if (cycles != lastCycles[i]) {
+                    advanced++;
+                    lastCycles[i] = cycles;
+                }
+                frames += cpu.getFrames();
+                late += cpu.getLateFrames();
+            }
+            System.out.printf("%8.0f %9d %9d %10d %10d %10d %8d %8d%n",
+                (System.nanoTime() - start) / 1e9, running, advanced, frames, late,
+                threads.getThreadCount(), heap.getHeapMemoryUsage().getUsed() >> 20, pinned.get());
+        }
+
+        for (Cpu cpu : cpus) {
+            cpu.halt();
+        }
+        pins.close();
+        System.exit(0);
+    }
+
+    // GET/POST /{id}/{addr}?len=n over one 64KB image per console, like memory_service
+    private static void startMemoryStub(int port) throws IOException {
+        byte[] image = BenchPrograms.image(BenchPrograms.REGISTERS);
+        memory = new ConcurrentHashMap<>();
+        template = image;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.createContext("/", VirtualThreadSoak::serve);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(STUB_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        byte[] image = memory.computeIfAbsent(Integer.parseInt(parts[1]), id -> template.clone());
+        int addr = Integer.parseInt(parts[2]);
+        int len = Integer.parseInt(exchange.getRequestURI().getQuery().substring("len=".length()));
+
+        if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] body = in.readAllBytes();
+                System.arraycopy(body, 0, image, addr, Math.min(len, body.length));
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        } else {
+            exchange.sendResponseHeaders(200, len);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(image, addr, len);
+            }
+        }
+    }
+}
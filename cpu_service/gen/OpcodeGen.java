@@ -0,0 +1,824 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// writes the opcode handlers of every engine from gen/opcodes.txt:
+//
+//   java gen/OpcodeGen.java gen/opcodes.txt src
+//
+// Each instruction family below is one template written against a neutral
+// register file, "@getA()" or "@write8(addr, v)", which becomes cpu.getA() in
+// the table and switch engines and batch.getA(k) in the lockstep one. Cycles
+// and flags come from the spec: a template says how to compute the flags its
+// line names and the generator fills in the kept, forced and packed ones, so a
+// spec line that disagrees with its template fails here rather than at runtime
+public class OpcodeGen {
+    private static final String HEADER = "// generated by gen/OpcodeGen.java from gen/opcodes.txt, do not edit\n";
+
+    // cases per method; HotSpot won't JIT methods over 8000 bytes of bytecode
+    // (-XX:-DontCompileHugeMethods) and the lockstep bodies carry their loop
+    private static final int SWITCH_SPLIT = 64;
+    private static final int BATCH_SPLIT = 32;
+
+    private static final Pattern LINE = Pattern.compile("(CB )?([0-9A-F]{2})\\s+(.+?)\\s+(\\S+)\\s+([-ZNHC01]{4})");
+
+    record Op(boolean cb, int code, String text, String mnemonic, String[] operands, int cycles, int notTaken, String flags) {
+        String hex() {
+            return String.format("0x%02X", code);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: java gen/OpcodeGen.java <opcodes.txt> <src dir>");
+            System.exit(2);
+        }
+
+        Op[] main = new Op[256];
+        Op[] cb = new Op[256];
+        int n = 0;
+        for (String line : Files.readAllLines(Path.of(args[0]))) {
+            n++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            Op op = parse(line, n);
+            Op[] table = op.cb ? cb : main;
+            if (table[op.code] != null) {
+                throw new IllegalArgumentException("line " + n + ": " + (op.cb ? "CB " : "") + op.hex() + " defined twice");
+            }
+            table[op.code] = op;
+        }
+        for (int i = 0; i < 256; i++) {
+            if (main[i] == null || cb[i] == null) {
+                throw new IllegalArgumentException(String.format("no spec line for %s0x%02X", main[i] == null ? "" : "CB ", i));
+            }
+        }
+
+        Body[] mainBodies = new Body[256];
+        Body[] cbBodies = new Body[256];
+        for (int i = 0; i < 256; i++) {
+            mainBodies[i] = build(main[i]);
+            cbBodies[i] = build(cb[i]);
+        }
+
+        Path src = Path.of(args[1]);
+        Files.writeString(src.resolve("OpcodeTable.java"), table(main, cb, mainBodies, cbBodies));
+        Files.writeString(src.resolve("SwitchInterpreter.java"), switchEngine(main, cb, mainBodies, cbBodies));
+        Files.writeString(src.resolve("BatchInterpreter.java"), batchEngine(main, cb, mainBodies, cbBodies));
+    }
+
+    private static Op parse(String line, int n) {
+        Matcher m = LINE.matcher(line);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("line " + n + ": can't parse \"" + line + "\"");
+        }
+        String text = m.group(3);
+        int space = text.indexOf(' ');
+        String mnemonic = space < 0 ? text : text.substring(0, space);
+        String[] operands = space < 0 ? new String[0] : text.substring(space + 1).split(", ");
+
+        int cycles = -1;
+        int notTaken = -1;
+        if (!m.group(4).equals("-")) {
+            String[] c = m.group(4).split("/");
+            cycles = Integer.parseInt(c[0]);
+            if (c.length > 1) {
+                notTaken = Integer.parseInt(c[1]);
+            }
+        }
+        return new Op(m.group(1) != null, Integer.parseInt(m.group(2), 16), text, mnemonic, operands, cycles, notTaken, m.group(5));
+    }
+
+    // ---- templates
+
+    // a handler body: statements before the flags, then after them, and a
+    // statement that ends the handler instead of falling out of it
+    static final class Body {
+        final List<String> lines = new ArrayList<>();
+        final List<String> after = new ArrayList<>();
+        String tail;
+
+        // how the flags are set: Alu's packed F, flagsLogic on a result, a
+        // call recording the op for deferred flags, the instruction writing F
+        // itself, or one condition per computed letter
+        String packed;
+        String logic;
+        String deferred;
+        boolean direct;
+        final Map<Character, String> flags = new HashMap<>();
+
+        boolean cyclesDone;
+
+        void add(String code) {
+            for (String line : code.split("\n")) {
+                lines.add(line);
+            }
+        }
+    }
+
+    // an 8-bit operand: setup runs first, load is its value (0-255), store
+    // writes one (%s) and after runs once the instruction is done with it
+    record Operand(String setup, String load, String store, String after) {
+    }
+
+    private static final String REGISTERS = "ABCDEHL";
+
+    private static Operand operand(String x) {
+        if (x.length() == 1 && REGISTERS.contains(x)) {
+            return new Operand(null, "@get" + x + "()", "@set" + x + "(%s);", null);
+        }
+        switch (x) {
+            case "(HL)":
+                return new Operand("int hl = @getHL();", "(@read8(hl) & 0xFF)", "@write8(hl, %s);", null);
+            case "(BC)":
+            case "(DE)": {
+                String pair = x.substring(1, 3);
+                return new Operand(null, "(@read8(@get" + pair + "()) & 0xFF)", "@write8(@get" + pair + "(), %s);", null);
+            }
+            case "(HL+)":
+                return new Operand("int hl = @getHL();", "(@read8(hl) & 0xFF)", "@write8(hl, %s);", "@setHL(hl + 1);");
+            case "(HL-)":
+                return new Operand("int hl = @getHL();", "(@read8(hl) & 0xFF)", "@write8(hl, %s);", "@setHL(hl - 1);");
+            case "(C)":
+                return new Operand(null, "(@read8(0xFF00 | @getC()) & 0xFF)", "@write8(0xFF00 | @getC(), %s);", null);
+            case "(a8)":
+                return new Operand("int addr = 0xFF00 | (@fetch8() & 0xFF);", "(@read8(addr) & 0xFF)", "@write8(addr, %s);", null);
+            case "(a16)":
+                return new Operand(fetch16("addr"), "(@read8(addr) & 0xFF)", "@write8(addr, %s);", null);
+            case "d8":
+                return new Operand(null, "(@fetch8() & 0xFF)", null, null);
+            default:
+                throw new IllegalArgumentException("unknown 8-bit operand " + x);
+        }
+    }
+
+    private static String fetch16(String name) {
+        return "int lo = @fetch8() & 0xFF;\nint " + name + " = ((@fetch8() & 0xFF) << 8) | lo;";
+    }
+
+    private static final String POP16 = "int lo = @pop8() & 0xFF;\nint nn = ((@pop8() & 0xFF) << 8) | lo;";
+
+    private static boolean isPair(String x) {
+        return x.equals("BC") || x.equals("DE") || x.equals("HL") || x.equals("SP") || x.equals("AF");
+    }
+
+    private static String condition(String cc) {
+        switch (cc) {
+            case "NZ": return "!@isZ()";
+            case "Z": return "@isZ()";
+            case "NC": return "!@isC()";
+            case "C": return "@isC()";
+            default: return null;
+        }
+    }
+
+    private static Body build(Op op) {
+        Body b = new Body();
+        String[] o = op.operands;
+        String m = op.mnemonic;
+
+        // conditional branches carry their condition as the first operand
+        boolean branch = m.equals("JR") || m.equals("JP") || m.equals("CALL") || m.equals("RET");
+        String cond = branch && o.length > 0 && (o.length == 2 || m.equals("RET")) ? condition(o[0]) : null;
+        if ((cond != null) != (op.notTaken >= 0)) {
+            throw new IllegalArgumentException(op.text + ": taken/not taken cycles go with a condition");
+        }
+
+        switch (m) {
+            case "NOP":
+                break;
+
+            case "LD":
+            case "LDH":
+                load(b, op);
+                break;
+
+            case "INC":
+            case "DEC":
+                if (isPair(o[0])) {
+                    b.add("@set" + o[0] + "(@get" + o[0] + "() " + (m.equals("INC") ? "+" : "-") + " 1);");
+                } else {
+                    Operand x = operand(o[0]);
+                    setup(b, x);
+                    b.add("int r = Alu." + m.toLowerCase() + "(" + unwrap(x.load) + ");");
+                    b.add(String.format(x.store, "r"));
+                    packed(b, op, "r", m.equals("INC") ? "Z0H-" : "Z1H-");
+                }
+                break;
+
+            case "ADD":
+                if (o[0].equals("HL")) {
+                    b.add("int hl = @getHL();");
+                    b.add("int rr = @get" + o[1] + "();");
+                    b.add("int r = hl + rr;");
+                    b.add("@setHL(r);");
+                    deferred(b, op, "@flagsAdd16(hl, rr, r);", "-0HC");
+                    break;
+                }
+                if (o[0].equals("SP")) {
+                    spOffset(b, "@setSP(sp + e);");
+                    break;
+                }
+                // fall through to ADD A, x
+            case "ADC":
+            case "SUB":
+            case "SBC":
+            case "CP": {
+                Operand x = operand(o[o.length - 1]);
+                setup(b, x);
+                boolean add = m.equals("ADD") || m.equals("ADC");
+                String carry = m.equals("ADC") || m.equals("SBC") ? "@isC() ? 1 : 0" : "0";
+                b.add("int r = Alu." + (add ? "add" : "sub") + "(@getA(), " + unwrap(x.load) + ", " + carry + ");");
+                if (!m.equals("CP")) {
+                    b.add("@setA(r);");
+                }
+                packed(b, op, "r", add ? "Z0HC" : "Z1HC");
+                break;
+            }
+
+            case "AND":
+            case "XOR":
+            case "OR": {
+                Operand x = operand(o[0]);
+                setup(b, x);
+                String sign = m.equals("AND") ? "&" : m.equals("XOR") ? "^" : "|";
+                b.add("int r = @getA() " + sign + " " + x.load + ";");
+                b.add("@setA(r);");
+                b.logic = "r";
+                break;
+            }
+
+            case "DAA":
+                b.add("int r = Alu.daa(@getA(), @getF());");
+                b.add("@setA(r);");
+                packed(b, op, "r", "Z-0C");
+                break;
+
+            case "CPL":
+                b.add("@setA(~@getA());");
+                break;
+
+            case "SCF":
+                break;
+
+            case "CCF":
+                b.flags.put('C', "!@isC()");
+                break;
+
+            case "RLCA":
+            case "RRCA":
+            case "RLA":
+            case "RRA":
+                b.add("int v = @getA();");
+                b.add("int r = " + shift(m.substring(0, m.length() - 1)) + ";");
+                b.add("@setA(r);");
+                deferred(b, op, "@flagsRotateA(v, r, " + m.startsWith("RL") + ");", "000C");
+                break;
+
+            case "RLC":
+            case "RRC":
+            case "RL":
+            case "RR":
+            case "SLA":
+            case "SRA":
+            case "SWAP":
+            case "SRL": {
+                Operand x = operand(o[0]);
+                setup(b, x);
+                b.add("int v = " + unwrap(x.load) + ";");
+                b.add("int r = " + shift(m) + ";");
+                b.add(String.format(x.store, "r"));
+                if (m.equals("SWAP")) {
+                    b.logic = "r";
+                } else {
+                    deferred(b, op, "@flagsShift(v, r, " + (m.startsWith("RL") || m.equals("SLA")) + ");", "Z00C");
+                }
+                break;
+            }
+
+            case "BIT": {
+                Operand x = operand(o[1]);
+                setup(b, x);
+                b.add("int v = " + unwrap(x.load) + ";");
+                b.flags.put('Z', String.format("(v & 0x%02X) == 0", 1 << Integer.parseInt(o[0])));
+                break;
+            }
+
+            case "RES":
+            case "SET": {
+                Operand x = operand(o[1]);
+                setup(b, x);
+                int bit = 1 << Integer.parseInt(o[0]);
+                String value = m.equals("RES")
+                        ? String.format("%s & 0x%02X", x.load, ~bit & 0xFF)
+                        : String.format("%s | 0x%02X", x.load, bit);
+                b.add(String.format(x.store, value));
+                break;
+            }
+
+            case "JR":
+                b.add("int e = @fetch8();");
+                branch(b, op, cond, "@setPC(@getPC() + e);");
+                break;
+
+            case "JP":
+                if (o[0].equals("HL")) {
+                    b.add("@setPC(@getHL());");
+                    break;
+                }
+                b.add(fetch16("nn"));
+                branch(b, op, cond, "@setPC(nn);");
+                break;
+
+            case "CALL":
+                b.add(fetch16("nn"));
+                branch(b, op, cond, "@push16(@getPC());\n@setPC(nn);");
+                break;
+
+            case "RET":
+                branch(b, op, cond, POP16 + "\n@setPC(nn);");
+                break;
+
+            case "RETI":
+                b.add(POP16);
+                b.add("@setPC(nn);");
+                b.add("@enableInterrupts();");
+                break;
+
+            case "RST":
+                b.add("@push16(@getPC());");
+                b.add("@setPC(0x" + o[0].substring(0, 2) + ");");
+                break;
+
+            case "PUSH":
+                b.add("@push16(@get" + o[0] + "());");
+                break;
+
+            case "POP":
+                b.add(POP16);
+                b.add("@set" + o[0] + "(nn);");
+                b.direct = o[0].equals("AF");
+                break;
+
+            case "HALT":
+                b.add("@haltUntilInterrupt();");
+                break;
+
+            case "STOP":
+                b.add("// skips its operand byte; low-power mode isn't emulated");
+                b.add("@fetch8();");
+                break;
+
+            case "DI":
+                b.add("@disableInterrupts();");
+                break;
+
+            case "EI":
+                b.add("@enableInterrupts();");
+                break;
+
+            case "PREFIX":
+                // the CB prefix is dispatched before it gets here
+                b.tail = "throw new RuntimeException(\"something has gone very wrong, executed 0xCB\");";
+                break;
+
+            case "UNUSED":
+                b.tail = "throw new RuntimeException(\"Unused opcode " + op.hex() + "\");";
+                b.cyclesDone = true;
+                break;
+
+            default:
+                throw new IllegalArgumentException("no template for " + op.text);
+        }
+
+        flags(b, op);
+        if (!b.cyclesDone) {
+            if (op.cycles < 0) {
+                throw new IllegalArgumentException(op.text + ": no cycle count");
+            }
+            b.after.add("@incCycles(" + op.cycles + ");");
+        }
+        return b;
+    }
+
+    private static void load(Body b, Op op) {
+        String dst = op.operands[0];
+        String src = op.operands[1];
+
+        if (src.equals("d16")) {
+            b.add(fetch16("nn"));
+            b.add("@set" + dst + "(nn);");
+            return;
+        }
+        if (src.equals("SP")) {
+            b.add(fetch16("addr"));
+            b.add("@write16(addr, @getSP());");
+            return;
+        }
+        if (dst.equals("SP")) {
+            b.add("@setSP(@get" + src + "());");
+            return;
+        }
+        if (src.equals("SP+r8")) {
+            spOffset(b, "@setHL(sp + e);");
+            return;
+        }
+
+        Operand to = operand(dst);
+        Operand from = operand(src);
+        setup(b, to);
+        setup(b, from);
+        b.add(String.format(to.store, unwrap(from.load)));
+        if (to.after != null) {
+            b.after.add(to.after);
+        }
+        if (from.after != null) {
+            b.after.add(from.after);
+        }
+    }
+
+    // ADD SP, r8 and LD HL, SP+r8: H and C come from the unsigned low byte
+    private static void spOffset(Body b, String store) {
+        b.add("int sp = @getSP();");
+        b.add("int e = @fetch8();");
+        b.add(store);
+        b.flags.put('H', "(sp & 0x0F) + (e & 0x0F) > 0x0F");
+        b.flags.put('C', "(sp & 0xFF) + (e & 0xFF) > 0xFF");
+    }
+
+    private static void branch(Body b, Op op, String cond, String taken) {
+        if (cond == null) {
+            b.add(taken);
+            return;
+        }
+        b.add("if (" + cond + ") {");
+        for (String line : taken.split("\n")) {
+            b.add("    " + line);
+        }
+        b.add("    @incCycles(" + op.cycles + ");");
+        b.add("} else {");
+        b.add("    @incCycles(" + op.notTaken + ");");
+        b.add("}");
+        b.cyclesDone = true;
+    }
+
+    private static void setup(Body b, Operand x) {
+        if (x.setup != null) {
+            b.add(x.setup);
+        }
+    }
+
+    // the rotates and shifts of v; bits above 7 are dropped by the store
+    private static String shift(String m) {
+        switch (m) {
+            case "RLC": return "(v << 1) | (v >>> 7)";
+            case "RRC": return "(v >>> 1) | (v << 7)";
+            case "RL": return "(v << 1) | (@isC() ? 0x01 : 0)";
+            case "RR": return "(v >>> 1) | (@isC() ? 0x80 : 0)";
+            case "SLA": return "v << 1";
+            case "SRA": return "(v >>> 1) | (v & 0x80)";
+            case "SWAP": return "((v & 0x0F) << 4) | (v >>> 4)";
+            case "SRL": return "v >>> 1";
+            default: throw new IllegalArgumentException(m);
+        }
+    }
+
+    private static void packed(Body b, Op op, String result, String flags) {
+        if (!op.flags.equals(flags)) {
+            throw new IllegalArgumentException(op.text + ": flags " + op.flags + ", but Alu sets " + flags);
+        }
+        b.packed = result;
+    }
+
+    // flags built later from what the call records (Cpu.flagsAdd16 etc.)
+    private static void deferred(Body b, Op op, String call, String flags) {
+        if (!op.flags.equals(flags)) {
+            throw new IllegalArgumentException(op.text + ": flags " + op.flags + ", but " + call + " sets " + flags);
+        }
+        b.deferred = call;
+    }
+
+    private static final String LETTERS = "ZNHC";
+
+    // the flags statement for a body, checked against the spec's flags column
+    private static void flags(Body b, Op op) {
+        String spec = op.flags;
+        String line;
+        if (b.packed != null) {
+            line = (spec.charAt(3) == '-' ? "@setFlagsKeepCarry(" : "@setFlags(") + b.packed + " >> 8);";
+        } else if (b.logic != null) {
+            if (!spec.matches("Z0[01]0")) {
+                throw new IllegalArgumentException(op.text + ": flags " + spec + ", but flagsLogic sets Z0?0");
+            }
+            line = "@flagsLogic(" + b.logic + ", " + (spec.charAt(2) == '1') + ");";
+        } else if (b.deferred != null) {
+            line = b.deferred;
+        } else if (b.direct) {
+            if (!spec.equals(LETTERS)) {
+                throw new IllegalArgumentException(op.text + ": flags " + spec + ", but it loads all of F");
+            }
+            line = null;
+        } else {
+            int keep = 0;
+            int set = 0;
+            List<String> terms = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                char c = spec.charAt(i);
+                int bit = 0x80 >> i;
+                if (c == '-') {
+                    keep |= bit;
+                } else if (c == '1') {
+                    set |= bit;
+                } else if (c != '0') {
+                    String cond = b.flags.get(c);
+                    if (cond == null || c != LETTERS.charAt(i)) {
+                        throw new IllegalArgumentException(op.text + ": flags " + spec + ", but " + c + " isn't computed");
+                    }
+                    terms.add("(" + cond + " ? 0x" + Integer.toHexString(bit) + " : 0)");
+                }
+            }
+            for (char c : b.flags.keySet()) {
+                if (spec.indexOf(c) < 0) {
+                    throw new IllegalArgumentException(op.text + ": flags " + spec + ", but " + c + " is computed");
+                }
+            }
+            if (keep == 0xF0) {
+                return;
+            }
+            if (keep != 0) {
+                terms.add(0, String.format("(@getF() & 0x%02X)", keep));
+            }
+            if (set != 0) {
+                terms.add(keep != 0 ? 1 : 0, String.format("0x%02X", set));
+            }
+            line = "@setFlags(" + (terms.isEmpty() ? "0" : unwrap(String.join(" | ", terms))) + ");";
+        }
+        if (line != null) {
+            b.after.add(0, line);
+        }
+    }
+
+    // drops parentheses around a whole expression passed as an argument
+    private static String unwrap(String expr) {
+        if (!expr.startsWith("(") || !expr.endsWith(")")) {
+            return expr;
+        }
+        int depth = 0;
+        for (int i = 0; i < expr.length(); i++) {
+            char c = expr.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0 && i < expr.length() - 1) {
+                    return expr;
+                }
+            }
+        }
+        return expr.substring(1, expr.length() - 1);
+    }
+
+    // ---- engines
+
+    private static List<String> statements(Body b) {
+        List<String> all = new ArrayList<>(b.lines);
+        all.addAll(b.after);
+        return all;
+    }
+
+    private static String forCpu(String line) {
+        return line.replace("@", "cpu.");
+    }
+
+    private static String forBatch(String line) {
+        return line.replaceAll("@(\\w+)\\(\\)", "batch.$1(k)").replaceAll("@(\\w+)\\(", "batch.$1(k, ");
+    }
+
+    private static void indent(StringBuilder out, int depth, String line) {
+        if (!line.isEmpty()) {
+            out.append("    ".repeat(depth)).append(line);
+        }
+        out.append('\n');
+    }
+
+    private static String table(Op[] main, Op[] cb, Body[] mainBodies, Body[] cbBodies) {
+        StringBuilder out = new StringBuilder(HEADER);
+        out.append("//\n");
+        out.append("// The table engine's handlers, one small class per opcode, and the decode\n");
+        out.append("// facts the block cache needs. InstructionDecoder is the way in\n");
+        out.append("final class OpcodeTable {\n");
+        out.append("    private OpcodeTable() {\n");
+        out.append("    }\n\n");
+
+        out.append("    static int length(int opcode) {\n");
+        out.append("        switch (opcode) {\n");
+        for (int length = 3; length >= 2; length--) {
+            List<String> cases = new ArrayList<>();
+            for (Op op : main) {
+                if (length(op) == length) {
+                    cases.add("case " + op.hex() + ":");
+                }
+            }
+            caseLines(out, cases);
+            out.append("                return ").append(length).append(";\n");
+        }
+        out.append("            default:\n");
+        out.append("                return 1;\n");
+        out.append("        }\n");
+        out.append("    }\n\n");
+
+        out.append("    static boolean endsBlock(int opcode) {\n");
+        out.append("        switch (opcode) {\n");
+        List<String> cases = new ArrayList<>();
+        for (Op op : main) {
+            if (endsBlock(op)) {
+                cases.add("case " + op.hex() + ":");
+            }
+        }
+        caseLines(out, cases);
+        out.append("                return true;\n");
+        out.append("            default:\n");
+        out.append("                return false;\n");
+        out.append("        }\n");
+        out.append("    }\n");
+
+        instructions(out, "handlers", main, mainBodies);
+        instructions(out, "cbHandlers", cb, cbBodies);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void caseLines(StringBuilder out, List<String> cases) {
+        for (int i = 0; i < cases.size(); i += 8) {
+            indent(out, 3, String.join(" ", cases.subList(i, Math.min(cases.size(), i + 8))));
+        }
+    }
+
+    private static int length(Op op) {
+        if (op.mnemonic.equals("PREFIX")) {
+            return 2;
+        }
+        int length = 1;
+        for (String x : op.operands) {
+            if (x.contains("d16") || x.contains("a16")) {
+                length += 2;
+            } else if (x.contains("d8") || x.contains("a8") || x.contains("r8")) {
+                length += 1;
+            }
+        }
+        return length;
+    }
+
+    // execution may not continue at PC + length afterwards
+    private static boolean endsBlock(Op op) {
+        switch (op.mnemonic) {
+            case "JR": case "JP": case "CALL": case "RET": case "RETI": case "RST": case "HALT": case "STOP":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void instructions(StringBuilder out, String name, Op[] ops, Body[] bodies) {
+        out.append("\n    static Instruction[] ").append(name).append("() {\n");
+        out.append("        Instruction[] table = new Instruction[256];\n");
+        for (int i = 0; i < 256; i++) {
+            Op op = ops[i];
+            out.append('\n');
+            indent(out, 2, "// " + (op.cb ? "CB " : "") + op.hex() + " - " + op.text);
+            indent(out, 2, "table[" + op.hex() + "] = new Instruction() {");
+            indent(out, 3, "@Override");
+            indent(out, 3, "public void execute(Cpu cpu) {");
+            for (String line : statements(bodies[i])) {
+                indent(out, 4, forCpu(line));
+            }
+            if (bodies[i].tail != null) {
+                indent(out, 4, bodies[i].tail);
+            }
+            indent(out, 3, "}");
+            out.append('\n');
+            indent(out, 3, "@Override");
+            indent(out, 3, "public String name() {");
+            indent(out, 4, "return \"" + op.text + "\";");
+            indent(out, 3, "}");
+            indent(out, 2, "};");
+        }
+        out.append("\n        return table;\n");
+        out.append("    }\n");
+    }
+
+    private static String switchEngine(Op[] main, Op[] cb, Body[] mainBodies, Body[] cbBodies) {
+        StringBuilder out = new StringBuilder(HEADER);
+        out.append("//\n");
+        out.append("// Switch-dispatched execution engine. Runs the same opcode bodies as\n");
+        out.append("// InstructionDecoder, but as cases of a few static switch methods, so the\n");
+        out.append("// dispatch site is a tableswitch and each body can be inlined and compiled\n");
+        out.append("// together with its accessors.\n");
+        out.append("//\n");
+        out.append("// The cases are split into several methods because HotSpot refuses to JIT\n");
+        out.append("// methods over 8000 bytes of bytecode (-XX:-DontCompileHugeMethods).\n");
+        out.append("public class SwitchInterpreter {\n");
+        String params = "Cpu cpu, int opcode";
+        String args = "cpu, opcode";
+        dispatcher(out, "execute", "", params, args, SWITCH_SPLIT);
+        out.append('\n');
+        dispatcher(out, "executeCB", "CB", params, args, SWITCH_SPLIT);
+
+        for (int table = 0; table < 2; table++) {
+            Op[] ops = table == 0 ? main : cb;
+            Body[] bodies = table == 0 ? mainBodies : cbBodies;
+            for (int from = 0; from < 256; from += SWITCH_SPLIT) {
+                out.append("\n    private static void ").append(method(table == 1, from)).append("(").append(params).append(") {\n");
+                out.append("        switch (opcode) {\n");
+                for (int i = from; i < from + SWITCH_SPLIT; i++) {
+                    if (i > from) {
+                        out.append('\n');
+                    }
+                    indent(out, 3, "case " + ops[i].hex() + ": { // " + ops[i].text);
+                    for (String line : statements(bodies[i])) {
+                        indent(out, 4, forCpu(line));
+                    }
+                    indent(out, 4, bodies[i].tail != null ? bodies[i].tail : "break;");
+                    indent(out, 3, "}");
+                }
+                out.append("        }\n");
+                out.append("    }\n");
+            }
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String batchEngine(Op[] main, Op[] cb, Body[] mainBodies, Body[] cbBodies) {
+        StringBuilder out = new StringBuilder(HEADER);
+        out.append("//\n");
+        out.append("// Lockstep execution engine for LockstepBatch. The cases are those of\n");
+        out.append("// SwitchInterpreter, but each one runs for every instance in a group that sits\n");
+        out.append("// at the same PC: the opcode is fetched and dispatched once, then the body\n");
+        out.append("// loops over the members with the registers and RAM held in the batch's\n");
+        out.append("// arrays.\n");
+        out.append("//\n");
+        out.append("// The cases are split into several methods because HotSpot refuses to JIT\n");
+        out.append("// methods over 8000 bytes of bytecode (-XX:-DontCompileHugeMethods).\n");
+        out.append("public class BatchInterpreter {\n");
+        String params = "LockstepBatch batch, int opcode, int[] members, int count";
+        String args = "batch, opcode, members, count";
+        dispatcher(out, "execute", "", params, args, BATCH_SPLIT);
+        out.append('\n');
+        dispatcher(out, "executeCB", "CB", params, args, BATCH_SPLIT);
+
+        for (int table = 0; table < 2; table++) {
+            Op[] ops = table == 0 ? main : cb;
+            Body[] bodies = table == 0 ? mainBodies : cbBodies;
+            for (int from = 0; from < 256; from += BATCH_SPLIT) {
+                out.append("\n    private static void ").append(method(table == 1, from)).append("(").append(params).append(") {\n");
+                out.append("        switch (opcode) {\n");
+                for (int i = from; i < from + BATCH_SPLIT; i++) {
+                    if (i > from) {
+                        out.append('\n');
+                    }
+                    indent(out, 3, "case " + ops[i].hex() + ": // " + ops[i].text);
+                    List<String> lines = statements(bodies[i]);
+                    if (!lines.isEmpty()) {
+                        indent(out, 4, "for (int i = 0; i < count; i++) {");
+                        indent(out, 5, "int k = members[i];");
+                        for (String line : lines) {
+                            indent(out, 5, forBatch(line));
+                        }
+                        indent(out, 4, "}");
+                    }
+                    indent(out, 4, bodies[i].tail != null ? bodies[i].tail : "break;");
+                }
+                out.append("        }\n");
+                out.append("    }\n");
+            }
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String method(boolean cb, int from) {
+        return String.format("execute%s%02X", cb ? "CB" : "", from);
+    }
+
+    private static void dispatcher(StringBuilder out, String name, String prefix, String params, String args, int split) {
+        int shift = Integer.numberOfTrailingZeros(split);
+        out.append("    public static void ").append(name).append("(").append(params).append(") {\n");
+        out.append("        switch (opcode >>> ").append(shift).append(") {\n");
+        for (int from = 0; from < 256; from += split) {
+            String label = from + split < 256 ? "case " + (from / split) + ":" : "default:";
+            out.append("            ").append(label).append(" ").append(method(!prefix.isEmpty(), from))
+                    .append("(").append(args).append("); break;\n");
+        }
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+}
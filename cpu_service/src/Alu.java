@@ -0,0 +1,115 @@
+// precomputed results for the 8-bit arithmetic ops, built once and shared by
+// every console; each entry holds the result in bits 0-7 and F in bits 8-15
+public final class Alu {
+    private static final int FLAG_Z = 0x80;
+    private static final int FLAG_N = 0x40;
+    private static final int FLAG_H = 0x20;
+    private static final int FLAG_C = 0x10;
+
+    // ADD/ADC and SUB/SBC/CP, indexed by carry-in, a and operand
+    private static final char[] ADD = new char[2 * 256 * 256];
+    private static final char[] SUB = new char[2 * 256 * 256];
+
+    // INC/DEC, C is left for the caller to keep
+    private static final char[] INC = new char[256];
+    private static final char[] DEC = new char[256];
+
+    // DAA, indexed by the N, H and C flags and a
+    private static final char[] DAA = new char[8 * 256];
+
+    static {
+        for (int carry = 0; carry < 2; carry++) {
+            for (int a = 0; a < 256; a++) {
+                for (int b = 0; b < 256; b++) {
+                    int index = (carry << 16) | (a << 8) | b;
+
+                    int sum = a + b + carry;
+                    int f = zero(sum);
+                    if ((a & 0x0F) + (b & 0x0F) + carry > 0x0F) f |= FLAG_H;
+                    if (sum > 0xFF) f |= FLAG_C;
+                    ADD[index] = entry(sum, f);
+
+                    int diff = a - b - carry;
+                    f = zero(diff) | FLAG_N;
+                    if ((a & 0x0F) - (b & 0x0F) - carry < 0) f |= FLAG_H;
+                    if (diff < 0) f |= FLAG_C;
+                    SUB[index] = entry(diff, f);
+                }
+            }
+        }
+
+        for (int v = 0; v < 256; v++) {
+            int inc = v + 1;
+            INC[v] = entry(inc, zero(inc) | ((v & 0x0F) == 0x0F ? FLAG_H : 0));
+
+            int dec = v - 1;
+            DEC[v] = entry(dec, zero(dec) | FLAG_N | ((v & 0x0F) == 0x00 ? FLAG_H : 0));
+        }
+
+        for (int flags = 0; flags < 8; flags++) {
+            boolean n = (flags & 4) != 0;
+            boolean h = (flags & 2) != 0;
+            boolean c = (flags & 1) != 0;
+
+            for (int a = 0; a < 256; a++) {
+                int correction = 0;
+                boolean carry = c;
+                int result;
+
+                if (!n) {
+                    if (h || (a & 0x0F) > 9) {
+                        correction |= 0x06;
+                    }
+                    if (carry || a > 0x99) {
+                        correction |= 0x60;
+                        carry = true;
+                    }
+                    result = a + correction;
+                } else {
+                    if (h) {
+                        correction |= 0x06;
+                    }
+                    if (carry) {
+                        correction |= 0x60;
+                    }
+                    result = a - correction;
+                }
+
+                int f = zero(result) | (n ? FLAG_N : 0) | (carry ? FLAG_C : 0);
+                DAA[(flags << 8) | a] = entry(result, f);
+            }
+        }
+    }
+
+    private Alu() {
+    }
+
+    private static int zero(int result) {
+        return (result & 0xFF) == 0 ? FLAG_Z : 0;
+    }
+
+    private static char entry(int result, int f) {
+        return (char) ((f << 8) | (result & 0xFF));
+    }
+
+    public static int add(int a, int b, int carry) {
+        return ADD[(carry << 16) | (a << 8) | b];
+    }
+
+    public static int sub(int a, int b, int carry) {
+        return SUB[(carry << 16) | (a << 8) | b];
+    }
+
+    public static int inc(int v) {
+        return INC[v];
+    }
+
+    public static int dec(int v) {
+        return DEC[v];
+    }
+
+    // f is the current F register
+    public static int daa(int a, int f) {
+        return DAA[(((f >> 4) & 0x07) << 8) | a];
+    }
+}
@@ -0,0 +1,4805 @@
+// generated by gen/OpcodeGen.java from gen/opcodes.txt, do not edit
+//
+// Lockstep execution engine for LockstepBatch. The cases are those of
+// SwitchInterpreter, but each one runs for every instance in a group that sits
+// at the same PC: the opcode is fetched and dispatched once, then the body
+// loops over the members with the registers and RAM held in the batch's
+// arrays.
+//
+// The cases are split into several methods because HotSpot refuses to JIT
+// methods over 8000 bytes of bytecode (-XX:-DontCompileHugeMethods).
+public class BatchInterpreter {
+    public static void execute(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode >>> 5) {
+            case 0: execute00(batch, opcode, members, count); break;
+            case 1: execute20(batch, opcode, members, count); break;
+            case 2: execute40(batch, opcode, members, count); break;
+            case 3: execute60(batch, opcode, members, count); break;
+            case 4: execute80(batch, opcode, members, count); break;
+            case 5: executeA0(batch, opcode, members, count); break;
+            case 6: executeC0(batch, opcode, members, count); break;
+            default: executeE0(batch, opcode, members, count); break;
+        }
+    }
+
+    public static void executeCB(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode >>> 5) {
+            case 0: executeCB00(batch, opcode, members, count); break;
+            case 1: executeCB20(batch, opcode, members, count); break;
+            case 2: executeCB40(batch, opcode, members, count); break;
+            case 3: executeCB60(batch, opcode, members, count); break;
+            case 4: executeCB80(batch, opcode, members, count); break;
+            case 5: executeCBA0(batch, opcode, members, count); break;
+            case 6: executeCBC0(batch, opcode, members, count); break;
+            default: executeCBE0(batch, opcode, members, count); break;
+        }
+    }
+
+    private static void execute00(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x00: // NOP
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x01: // LD BC, d16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setBC(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x02: // LD (BC), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.write8(k, batch.getBC(k), batch.getA(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x03: // INC BC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setBC(k, batch.getBC(k) + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x04: // INC B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getB(k));
+                    batch.setB(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x05: // DEC B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getB(k));
+                    batch.setB(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x06: // LD B, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x07: // RLCA
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setA(k, r);
+                    batch.flagsRotateA(k, v, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x08: // LD (a16), SP
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int addr = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.write16(k, addr, batch.getSP(k));
+                    batch.incCycles(k, 20);
+                }
+                break;
+
+            case 0x09: // ADD HL, BC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int rr = batch.getBC(k);
+                    int r = hl + rr;
+                    batch.setHL(k, r);
+                    batch.flagsAdd16(k, hl, rr, r);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0A: // LD A, (BC)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.read8(k, batch.getBC(k)) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0B: // DEC BC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setBC(k, batch.getBC(k) - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0C: // INC C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getC(k));
+                    batch.setC(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x0D: // DEC C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getC(k));
+                    batch.setC(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x0E: // LD C, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0F: // RRCA
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setA(k, r);
+                    batch.flagsRotateA(k, v, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x10: // STOP d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    // skips its operand byte; low-power mode isn't emulated
+                    batch.fetch8(k);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x11: // LD DE, d16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setDE(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x12: // LD (DE), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.write8(k, batch.getDE(k), batch.getA(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x13: // INC DE
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setDE(k, batch.getDE(k) + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x14: // INC D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getD(k));
+                    batch.setD(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x15: // DEC D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getD(k));
+                    batch.setD(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x16: // LD D, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x17: // RLA
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setA(k, r);
+                    batch.flagsRotateA(k, v, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x18: // JR r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int e = batch.fetch8(k);
+                    batch.setPC(k, batch.getPC(k) + e);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x19: // ADD HL, DE
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int rr = batch.getDE(k);
+                    int r = hl + rr;
+                    batch.setHL(k, r);
+                    batch.flagsAdd16(k, hl, rr, r);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1A: // LD A, (DE)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.read8(k, batch.getDE(k)) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1B: // DEC DE
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setDE(k, batch.getDE(k) - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1C: // INC E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getE(k));
+                    batch.setE(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x1D: // DEC E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getE(k));
+                    batch.setE(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x1E: // LD E, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1F: // RRA
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setA(k, r);
+                    batch.flagsRotateA(k, v, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void execute20(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x20: // JR NZ, r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int e = batch.fetch8(k);
+                    if (!batch.isZ(k)) {
+                        batch.setPC(k, batch.getPC(k) + e);
+                        batch.incCycles(k, 12);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0x21: // LD HL, d16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setHL(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x22: // LD (HL+), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getA(k));
+                    batch.setHL(k, hl + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x23: // INC HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setHL(k, batch.getHL(k) + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x24: // INC H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getH(k));
+                    batch.setH(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x25: // DEC H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getH(k));
+                    batch.setH(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x26: // LD H, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x27: // DAA
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.daa(batch.getA(k), batch.getF(k));
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x28: // JR Z, r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int e = batch.fetch8(k);
+                    if (batch.isZ(k)) {
+                        batch.setPC(k, batch.getPC(k) + e);
+                        batch.incCycles(k, 12);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0x29: // ADD HL, HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int rr = batch.getHL(k);
+                    int r = hl + rr;
+                    batch.setHL(k, r);
+                    batch.flagsAdd16(k, hl, rr, r);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2A: // LD A, (HL+)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setA(k, batch.read8(k, hl) & 0xFF);
+                    batch.setHL(k, hl + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2B: // DEC HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setHL(k, batch.getHL(k) - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2C: // INC L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getL(k));
+                    batch.setL(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x2D: // DEC L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getL(k));
+                    batch.setL(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x2E: // LD L, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2F: // CPL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, ~batch.getA(k));
+                    batch.setFlags(k, (batch.getF(k) & 0x90) | 0x60);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x30: // JR NC, r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int e = batch.fetch8(k);
+                    if (!batch.isC(k)) {
+                        batch.setPC(k, batch.getPC(k) + e);
+                        batch.incCycles(k, 12);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0x31: // LD SP, d16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setSP(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x32: // LD (HL-), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getA(k));
+                    batch.setHL(k, hl - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x33: // INC SP
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setSP(k, batch.getSP(k) + 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x34: // INC (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.inc(batch.read8(k, hl) & 0xFF);
+                    batch.write8(k, hl, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x35: // DEC (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.dec(batch.read8(k, hl) & 0xFF);
+                    batch.write8(k, hl, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x36: // LD (HL), d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x37: // SCF
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setFlags(k, (batch.getF(k) & 0x80) | 0x10);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x38: // JR C, r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int e = batch.fetch8(k);
+                    if (batch.isC(k)) {
+                        batch.setPC(k, batch.getPC(k) + e);
+                        batch.incCycles(k, 12);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0x39: // ADD HL, SP
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int rr = batch.getSP(k);
+                    int r = hl + rr;
+                    batch.setHL(k, r);
+                    batch.flagsAdd16(k, hl, rr, r);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3A: // LD A, (HL-)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setA(k, batch.read8(k, hl) & 0xFF);
+                    batch.setHL(k, hl - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3B: // DEC SP
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setSP(k, batch.getSP(k) - 1);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3C: // INC A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.inc(batch.getA(k));
+                    batch.setA(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x3D: // DEC A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.dec(batch.getA(k));
+                    batch.setA(k, r);
+                    batch.setFlagsKeepCarry(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x3E: // LD A, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.fetch8(k) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3F: // CCF
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setFlags(k, (batch.getF(k) & 0x80) | (!batch.isC(k) ? 0x10 : 0));
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void execute40(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x40: // LD B, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x41: // LD B, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x42: // LD B, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x43: // LD B, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x44: // LD B, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x45: // LD B, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x46: // LD B, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setB(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x47: // LD B, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x48: // LD C, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x49: // LD C, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x4A: // LD C, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x4B: // LD C, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x4C: // LD C, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x4D: // LD C, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x4E: // LD C, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setC(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4F: // LD C, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x50: // LD D, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x51: // LD D, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x52: // LD D, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x53: // LD D, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x54: // LD D, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x55: // LD D, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x56: // LD D, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setD(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x57: // LD D, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x58: // LD E, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x59: // LD E, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x5A: // LD E, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x5B: // LD E, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x5C: // LD E, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x5D: // LD E, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x5E: // LD E, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setE(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5F: // LD E, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void execute60(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x60: // LD H, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x61: // LD H, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x62: // LD H, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x63: // LD H, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x64: // LD H, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x65: // LD H, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x66: // LD H, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setH(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x67: // LD H, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x68: // LD L, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x69: // LD L, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x6A: // LD L, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x6B: // LD L, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x6C: // LD L, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x6D: // LD L, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x6E: // LD L, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setL(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6F: // LD L, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x70: // LD (HL), B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getB(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x71: // LD (HL), C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getC(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x72: // LD (HL), D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getD(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x73: // LD (HL), E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getE(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x74: // LD (HL), H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getH(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x75: // LD (HL), L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getL(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x76: // HALT
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.haltUntilInterrupt(k);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x77: // LD (HL), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, batch.getA(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x78: // LD A, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getB(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x79: // LD A, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getC(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x7A: // LD A, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getD(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x7B: // LD A, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getE(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x7C: // LD A, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getH(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x7D: // LD A, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x7E: // LD A, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.setA(k, batch.read8(k, hl) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7F: // LD A, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void execute80(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x80: // ADD A, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getB(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x81: // ADD A, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getC(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x82: // ADD A, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getD(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x83: // ADD A, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getE(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x84: // ADD A, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getH(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x85: // ADD A, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getL(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x86: // ADD A, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.add(batch.getA(k), batch.read8(k, hl) & 0xFF, 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x87: // ADD A, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getA(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x88: // ADC A, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getB(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x89: // ADC A, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getC(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x8A: // ADC A, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getD(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x8B: // ADC A, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getE(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x8C: // ADC A, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getH(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x8D: // ADC A, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getL(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x8E: // ADC A, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.add(batch.getA(k), batch.read8(k, hl) & 0xFF, batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8F: // ADC A, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.getA(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x90: // SUB B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getB(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x91: // SUB C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getC(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x92: // SUB D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getD(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x93: // SUB E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getE(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x94: // SUB H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getH(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x95: // SUB L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getL(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x96: // SUB (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.sub(batch.getA(k), batch.read8(k, hl) & 0xFF, 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x97: // SUB A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getA(k), 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x98: // SBC A, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getB(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x99: // SBC A, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getC(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x9A: // SBC A, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getD(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x9B: // SBC A, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getE(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x9C: // SBC A, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getH(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x9D: // SBC A, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getL(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0x9E: // SBC A, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.sub(batch.getA(k), batch.read8(k, hl) & 0xFF, batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9F: // SBC A, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getA(k), batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void executeA0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xA0: // AND B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getB(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA1: // AND C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getC(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA2: // AND D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getD(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA3: // AND E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getE(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA4: // AND H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getH(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA5: // AND L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getL(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA6: // AND (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = batch.getA(k) & (batch.read8(k, hl) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA7: // AND A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & batch.getA(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA8: // XOR B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getB(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xA9: // XOR C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getC(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xAA: // XOR D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getD(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xAB: // XOR E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getE(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xAC: // XOR H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getH(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xAD: // XOR L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getL(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xAE: // XOR (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = batch.getA(k) ^ (batch.read8(k, hl) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAF: // XOR A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ batch.getA(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB0: // OR B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getB(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB1: // OR C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getC(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB2: // OR D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getD(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB3: // OR E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getE(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB4: // OR H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getH(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB5: // OR L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getL(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB6: // OR (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = batch.getA(k) | (batch.read8(k, hl) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB7: // OR A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | batch.getA(k);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB8: // CP B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getB(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xB9: // CP C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getC(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xBA: // CP D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getD(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xBB: // CP E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getE(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xBC: // CP H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getH(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xBD: // CP L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getL(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xBE: // CP (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int r = Alu.sub(batch.getA(k), batch.read8(k, hl) & 0xFF, 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBF: // CP A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.getA(k), 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 4);
+                }
+                break;
+        }
+    }
+
+    private static void executeC0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xC0: // RET NZ
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    if (!batch.isZ(k)) {
+                        int lo = batch.pop8(k) & 0xFF;
+                        int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 20);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0xC1: // POP BC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setBC(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xC2: // JP NZ, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (!batch.isZ(k)) {
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 16);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xC3: // JP a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setPC(k, nn);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xC4: // CALL NZ, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (!batch.isZ(k)) {
+                        batch.push16(k, batch.getPC(k));
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 24);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xC5: // PUSH BC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getBC(k));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xC6: // ADD A, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.fetch8(k) & 0xFF, 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC7: // RST 00H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x00);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xC8: // RET Z
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    if (batch.isZ(k)) {
+                        int lo = batch.pop8(k) & 0xFF;
+                        int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 20);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0xC9: // RET
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setPC(k, nn);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xCA: // JP Z, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (batch.isZ(k)) {
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 16);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xCB: // PREFIX CB
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.incCycles(k, 4);
+                }
+                throw new RuntimeException("something has gone very wrong, executed 0xCB");
+
+            case 0xCC: // CALL Z, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (batch.isZ(k)) {
+                        batch.push16(k, batch.getPC(k));
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 24);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xCD: // CALL a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, nn);
+                    batch.incCycles(k, 24);
+                }
+                break;
+
+            case 0xCE: // ADC A, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.add(batch.getA(k), batch.fetch8(k) & 0xFF, batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCF: // RST 08H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x08);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xD0: // RET NC
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    if (!batch.isC(k)) {
+                        int lo = batch.pop8(k) & 0xFF;
+                        int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 20);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0xD1: // POP DE
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setDE(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xD2: // JP NC, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (!batch.isC(k)) {
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 16);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xD3: // UNUSED
+                throw new RuntimeException("Unused opcode 0xD3");
+
+            case 0xD4: // CALL NC, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (!batch.isC(k)) {
+                        batch.push16(k, batch.getPC(k));
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 24);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xD5: // PUSH DE
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getDE(k));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xD6: // SUB d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.fetch8(k) & 0xFF, 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD7: // RST 10H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x10);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xD8: // RET C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    if (batch.isC(k)) {
+                        int lo = batch.pop8(k) & 0xFF;
+                        int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 20);
+                    } else {
+                        batch.incCycles(k, 8);
+                    }
+                }
+                break;
+
+            case 0xD9: // RETI
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setPC(k, nn);
+                    batch.enableInterrupts(k);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xDA: // JP C, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (batch.isC(k)) {
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 16);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xDB: // UNUSED
+                throw new RuntimeException("Unused opcode 0xDB");
+
+            case 0xDC: // CALL C, a16
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int nn = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    if (batch.isC(k)) {
+                        batch.push16(k, batch.getPC(k));
+                        batch.setPC(k, nn);
+                        batch.incCycles(k, 24);
+                    } else {
+                        batch.incCycles(k, 12);
+                    }
+                }
+                break;
+
+            case 0xDD: // UNUSED
+                throw new RuntimeException("Unused opcode 0xDD");
+
+            case 0xDE: // SBC A, d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.fetch8(k) & 0xFF, batch.isC(k) ? 1 : 0);
+                    batch.setA(k, r);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDF: // RST 18H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x18);
+                    batch.incCycles(k, 16);
+                }
+                break;
+        }
+    }
+
+    private static void executeE0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xE0: // LDH (a8), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int addr = 0xFF00 | (batch.fetch8(k) & 0xFF);
+                    batch.write8(k, addr, batch.getA(k));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xE1: // POP HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setHL(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xE2: // LD (C), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.write8(k, 0xFF00 | batch.getC(k), batch.getA(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE3: // UNUSED
+                throw new RuntimeException("Unused opcode 0xE3");
+
+            case 0xE4: // UNUSED
+                throw new RuntimeException("Unused opcode 0xE4");
+
+            case 0xE5: // PUSH HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getHL(k));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xE6: // AND d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) & (batch.fetch8(k) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE7: // RST 20H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x20);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xE8: // ADD SP, r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int sp = batch.getSP(k);
+                    int e = batch.fetch8(k);
+                    batch.setSP(k, sp + e);
+                    batch.setFlags(k, ((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xE9: // JP HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setPC(k, batch.getHL(k));
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xEA: // LD (a16), A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int addr = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.write8(k, addr, batch.getA(k));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xEB: // UNUSED
+                throw new RuntimeException("Unused opcode 0xEB");
+
+            case 0xEC: // UNUSED
+                throw new RuntimeException("Unused opcode 0xEC");
+
+            case 0xED: // UNUSED
+                throw new RuntimeException("Unused opcode 0xED");
+
+            case 0xEE: // XOR d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) ^ (batch.fetch8(k) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xEF: // RST 28H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x28);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xF0: // LDH A, (a8)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int addr = 0xFF00 | (batch.fetch8(k) & 0xFF);
+                    batch.setA(k, batch.read8(k, addr) & 0xFF);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xF1: // POP AF
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.pop8(k) & 0xFF;
+                    int nn = ((batch.pop8(k) & 0xFF) << 8) | lo;
+                    batch.setAF(k, nn);
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xF2: // LD A, (C)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.read8(k, 0xFF00 | batch.getC(k)) & 0xFF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF3: // DI
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.disableInterrupts(k);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xF4: // UNUSED
+                throw new RuntimeException("Unused opcode 0xF4");
+
+            case 0xF5: // PUSH AF
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getAF(k));
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xF6: // OR d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = batch.getA(k) | (batch.fetch8(k) & 0xFF);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF7: // RST 30H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x30);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xF8: // LD HL, SP+r8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int sp = batch.getSP(k);
+                    int e = batch.fetch8(k);
+                    batch.setHL(k, sp + e);
+                    batch.setFlags(k, ((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0xF9: // LD SP, HL
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setSP(k, batch.getHL(k));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFA: // LD A, (a16)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int lo = batch.fetch8(k) & 0xFF;
+                    int addr = ((batch.fetch8(k) & 0xFF) << 8) | lo;
+                    batch.setA(k, batch.read8(k, addr) & 0xFF);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xFB: // EI
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.enableInterrupts(k);
+                    batch.incCycles(k, 4);
+                }
+                break;
+
+            case 0xFC: // UNUSED
+                throw new RuntimeException("Unused opcode 0xFC");
+
+            case 0xFD: // UNUSED
+                throw new RuntimeException("Unused opcode 0xFD");
+
+            case 0xFE: // CP d8
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int r = Alu.sub(batch.getA(k), batch.fetch8(k) & 0xFF, 0);
+                    batch.setFlags(k, r >> 8);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFF: // RST 38H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.push16(k, batch.getPC(k));
+                    batch.setPC(k, 0x38);
+                    batch.incCycles(k, 16);
+                }
+                break;
+        }
+    }
+
+    private static void executeCB00(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x00: // RLC B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x01: // RLC C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x02: // RLC D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x03: // RLC E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x04: // RLC H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x05: // RLC L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x06: // RLC (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = (v << 1) | (v >>> 7);
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x07: // RLC A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v << 1) | (v >>> 7);
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x08: // RRC B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x09: // RRC C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0A: // RRC D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0B: // RRC E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0C: // RRC H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0D: // RRC L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x0E: // RRC (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = (v >>> 1) | (v << 7);
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x0F: // RRC A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v >>> 1) | (v << 7);
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x10: // RL B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x11: // RL C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x12: // RL D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x13: // RL E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x14: // RL H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x15: // RL L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x16: // RL (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x17: // RL A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v << 1) | (batch.isC(k) ? 0x01 : 0);
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x18: // RR B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x19: // RR C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1A: // RR D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1B: // RR E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1C: // RR H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1D: // RR L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x1E: // RR (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x1F: // RR A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v >>> 1) | (batch.isC(k) ? 0x80 : 0);
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCB20(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x20: // SLA B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = v << 1;
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x21: // SLA C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = v << 1;
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x22: // SLA D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = v << 1;
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x23: // SLA E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = v << 1;
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x24: // SLA H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = v << 1;
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x25: // SLA L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = v << 1;
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x26: // SLA (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = v << 1;
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x27: // SLA A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = v << 1;
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, true);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x28: // SRA B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x29: // SRA C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2A: // SRA D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2B: // SRA E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2C: // SRA H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2D: // SRA L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x2E: // SRA (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x2F: // SRA A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = (v >>> 1) | (v & 0x80);
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x30: // SWAP B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setB(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x31: // SWAP C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setC(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x32: // SWAP D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setD(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x33: // SWAP E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setE(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x34: // SWAP H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setH(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x35: // SWAP L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setL(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x36: // SWAP (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.write8(k, hl, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x37: // SWAP A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = ((v & 0x0F) << 4) | (v >>> 4);
+                    batch.setA(k, r);
+                    batch.flagsLogic(k, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x38: // SRL B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    int r = v >>> 1;
+                    batch.setB(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x39: // SRL C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    int r = v >>> 1;
+                    batch.setC(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3A: // SRL D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    int r = v >>> 1;
+                    batch.setD(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3B: // SRL E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    int r = v >>> 1;
+                    batch.setE(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3C: // SRL H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    int r = v >>> 1;
+                    batch.setH(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3D: // SRL L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    int r = v >>> 1;
+                    batch.setL(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x3E: // SRL (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    int r = v >>> 1;
+                    batch.write8(k, hl, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x3F: // SRL A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    int r = v >>> 1;
+                    batch.setA(k, r);
+                    batch.flagsShift(k, v, r, false);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCB40(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x40: // BIT 0, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x41: // BIT 0, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x42: // BIT 0, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x43: // BIT 0, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x44: // BIT 0, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x45: // BIT 0, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x46: // BIT 0, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x47: // BIT 0, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x48: // BIT 1, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x49: // BIT 1, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4A: // BIT 1, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4B: // BIT 1, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4C: // BIT 1, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4D: // BIT 1, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x4E: // BIT 1, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x4F: // BIT 1, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x50: // BIT 2, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x51: // BIT 2, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x52: // BIT 2, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x53: // BIT 2, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x54: // BIT 2, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x55: // BIT 2, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x56: // BIT 2, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x57: // BIT 2, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x58: // BIT 3, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x59: // BIT 3, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5A: // BIT 3, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5B: // BIT 3, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5C: // BIT 3, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5D: // BIT 3, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x5E: // BIT 3, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x5F: // BIT 3, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCB60(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x60: // BIT 4, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x61: // BIT 4, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x62: // BIT 4, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x63: // BIT 4, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x64: // BIT 4, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x65: // BIT 4, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x66: // BIT 4, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x67: // BIT 4, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x68: // BIT 5, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x69: // BIT 5, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6A: // BIT 5, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6B: // BIT 5, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6C: // BIT 5, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6D: // BIT 5, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x6E: // BIT 5, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x6F: // BIT 5, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x70: // BIT 6, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x71: // BIT 6, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x72: // BIT 6, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x73: // BIT 6, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x74: // BIT 6, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x75: // BIT 6, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x76: // BIT 6, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x77: // BIT 6, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x78: // BIT 7, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getB(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x79: // BIT 7, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getC(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7A: // BIT 7, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getD(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7B: // BIT 7, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getE(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7C: // BIT 7, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getH(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7D: // BIT 7, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getL(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x7E: // BIT 7, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    int v = batch.read8(k, hl) & 0xFF;
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 12);
+                }
+                break;
+
+            case 0x7F: // BIT 7, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int v = batch.getA(k);
+                    batch.setFlags(k, (batch.getF(k) & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCB80(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0x80: // RES 0, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x81: // RES 0, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x82: // RES 0, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x83: // RES 0, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x84: // RES 0, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x85: // RES 0, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x86: // RES 0, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xFE);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x87: // RES 0, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xFE);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x88: // RES 1, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x89: // RES 1, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8A: // RES 1, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8B: // RES 1, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8C: // RES 1, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8D: // RES 1, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x8E: // RES 1, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xFD);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x8F: // RES 1, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xFD);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x90: // RES 2, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x91: // RES 2, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x92: // RES 2, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x93: // RES 2, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x94: // RES 2, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x95: // RES 2, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x96: // RES 2, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xFB);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x97: // RES 2, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xFB);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x98: // RES 3, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x99: // RES 3, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9A: // RES 3, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9B: // RES 3, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9C: // RES 3, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9D: // RES 3, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0x9E: // RES 3, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xF7);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0x9F: // RES 3, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xF7);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCBA0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xA0: // RES 4, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA1: // RES 4, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA2: // RES 4, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA3: // RES 4, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA4: // RES 4, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA5: // RES 4, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA6: // RES 4, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xEF);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xA7: // RES 4, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xEF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA8: // RES 5, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xA9: // RES 5, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAA: // RES 5, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAB: // RES 5, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAC: // RES 5, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAD: // RES 5, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xAE: // RES 5, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xDF);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xAF: // RES 5, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xDF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB0: // RES 6, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB1: // RES 6, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB2: // RES 6, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB3: // RES 6, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB4: // RES 6, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB5: // RES 6, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB6: // RES 6, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0xBF);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xB7: // RES 6, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0xBF);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB8: // RES 7, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xB9: // RES 7, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBA: // RES 7, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBB: // RES 7, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBC: // RES 7, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBD: // RES 7, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xBE: // RES 7, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) & 0x7F);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xBF: // RES 7, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) & 0x7F);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCBC0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xC0: // SET 0, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC1: // SET 0, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC2: // SET 0, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC3: // SET 0, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC4: // SET 0, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC5: // SET 0, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC6: // SET 0, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x01);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xC7: // SET 0, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x01);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC8: // SET 1, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xC9: // SET 1, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCA: // SET 1, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCB: // SET 1, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCC: // SET 1, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCD: // SET 1, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xCE: // SET 1, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x02);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xCF: // SET 1, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x02);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD0: // SET 2, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD1: // SET 2, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD2: // SET 2, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD3: // SET 2, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD4: // SET 2, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD5: // SET 2, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD6: // SET 2, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x04);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xD7: // SET 2, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x04);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD8: // SET 3, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xD9: // SET 3, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDA: // SET 3, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDB: // SET 3, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDC: // SET 3, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDD: // SET 3, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xDE: // SET 3, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x08);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xDF: // SET 3, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x08);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+
+    private static void executeCBE0(LockstepBatch batch, int opcode, int[] members, int count) {
+        switch (opcode) {
+            case 0xE0: // SET 4, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE1: // SET 4, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE2: // SET 4, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE3: // SET 4, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE4: // SET 4, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE5: // SET 4, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE6: // SET 4, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x10);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xE7: // SET 4, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x10);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE8: // SET 5, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xE9: // SET 5, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xEA: // SET 5, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xEB: // SET 5, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xEC: // SET 5, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xED: // SET 5, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xEE: // SET 5, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x20);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xEF: // SET 5, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x20);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF0: // SET 6, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF1: // SET 6, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF2: // SET 6, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF3: // SET 6, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF4: // SET 6, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF5: // SET 6, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF6: // SET 6, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x40);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xF7: // SET 6, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x40);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF8: // SET 7, B
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setB(k, batch.getB(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xF9: // SET 7, C
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setC(k, batch.getC(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFA: // SET 7, D
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setD(k, batch.getD(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFB: // SET 7, E
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setE(k, batch.getE(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFC: // SET 7, H
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setH(k, batch.getH(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFD: // SET 7, L
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setL(k, batch.getL(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+
+            case 0xFE: // SET 7, (HL)
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    int hl = batch.getHL(k);
+                    batch.write8(k, hl, (batch.read8(k, hl) & 0xFF) | 0x80);
+                    batch.incCycles(k, 16);
+                }
+                break;
+
+            case 0xFF: // SET 7, A
+                for (int i = 0; i < count; i++) {
+                    int k = members[i];
+                    batch.setA(k, batch.getA(k) | 0x80);
+                    batch.incCycles(k, 8);
+                }
+                break;
+        }
+    }
+}
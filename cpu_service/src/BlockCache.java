@@ -0,0 +1,264 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// per-console cache of decoded basic blocks, keyed by start address and ROM bank,
+// so straight-line code is fetched and decoded once instead of on every execution
+public class BlockCache {
+    private static final int MAX_INSTRUCTIONS = 32;
+
+    // a run of instructions ending at the first jump, call, return or HALT
+    public static class Block {
+        final int start;              // address of the first opcode
+        final int bank;               // ROM bank decoded from, 0 outside 0x4000-0x7FFF
+        final int length;             // number of instructions
+        final int[] addresses;        // address of each instruction
+        final int[] opcodes;          // opcode, or 0x100 | cb for CB-prefixed ops
+        final Instruction[] handlers; // resolved table entries
+        final byte[] code;            // raw bytes from start, immediates included
+
+        boolean valid = true;
+        Block link;                   // block that ran after this one last time
+
+        // LY/STAT address if this block is an idle loop polling it, else 0 (see idleRead)
+        final int idleRead;
+
+        // superinstruction starting at each instruction, null if the block has none
+        final Superinstruction[] fused;
+
+        // tiered execution (see BlockCompiler)
+        int hits;
+        CompiledBlock compiled;
+        boolean uncompilable;
+
+        Block(int start, int bank, int length, int[] addresses, int[] opcodes, Instruction[] handlers, byte[] code) {
+            this.start = start;
+            this.bank = bank;
+            this.length = length;
+            this.addresses = addresses;
+            this.opcodes = opcodes;
+            this.handlers = handlers;
+            this.code = code;
+            this.idleRead = idleRead(start, length, addresses, opcodes, code);
+            this.fused = InstructionDecoder.superinstructions(length, opcodes);
+        }
+
+        int end() {
+            return start + code.length;
+        }
+
+        int lastPage() {
+            return Math.min((end() - 1) >> 8, 0xFF);
+        }
+
+        boolean matches(int pc, int bank) {
+            return valid && start == pc && this.bank == bank;
+        }
+    }
+
+    private final Map<Integer, Block> blocks = new HashMap<>();
+
+    // blocks overlapping each 256-byte page, used to find blocks hit by a write
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final List<Block>[] pageBlocks = new List[0x100];
+
+    private long decoded = 0;
+    private long invalidated = 0;
+
+    public static int bankFor(Cpu cpu, int pc) {
+        return (pc >= 0x4000 && pc < 0x8000) ? Io.romBank(cpu) : 0;
+    }
+
+    // get the block starting at pc, decoding it on a miss
+    public Block get(Cpu cpu, int pc, int bank) {
+        int key = (bank << 16) | pc;
+        Block block = blocks.get(key);
+        if (block == null) {
+            block = decode(cpu, pc, bank);
+            blocks.put(key, block);
+            for (int page = block.start >> 8; page <= block.lastPage(); page++) {
+                if (pageBlocks[page] == null) {
+                    pageBlocks[page] = new ArrayList<>();
+                }
+                pageBlocks[page].add(block);
+            }
+            decoded++;
+        }
+        return block;
+    }
+
+    // drop every block covering addr
+    public void invalidate(int addr) {
+        invalidateRange(addr, addr + 1);
+    }
+
+    // drop every block overlapping [from, to)
+    public void invalidateRange(int from, int to) {
+        for (int page = from >> 8; page <= ((to - 1) >> 8) && page < pageBlocks.length; page++) {
+            List<Block> list = pageBlocks[page];
+            if (list == null || list.isEmpty()) {
+                continue;
+            }
+
+            List<Block> hit = null;
+            for (Block block : list) {
+                if (block.start < to && block.end() > from) {
+                    if (hit == null) {
+                        hit = new ArrayList<>();
+                    }
+                    hit.add(block);
+                }
+            }
+
+            if (hit != null) {
+                for (Block block : hit) {
+                    remove(block);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (Block block : blocks.values()) {
+            block.valid = false;
+        }
+        blocks.clear();
+        for (int i = 0; i < pageBlocks.length; i++) {
+            pageBlocks[i] = null;
+        }
+    }
+
+    public int size() {
+        return blocks.size();
+    }
+
+    public long getDecoded() {
+        return decoded;
+    }
+
+    public long getInvalidated() {
+        return invalidated;
+    }
+
+    private void remove(Block block) {
+        block.valid = false;
+        blocks.remove((block.bank << 16) | block.start, block);
+        for (int page = block.start >> 8; page <= block.lastPage(); page++) {
+            if (pageBlocks[page] != null) {
+                pageBlocks[page].remove(block);
+            }
+        }
+        invalidated++;
+    }
+
+    // a loop that waits for the clock: starts by reading LY or STAT into A,
+    // only compares or masks A afterwards, and branches back to its start.
+    // Each pass leaves the same registers as long as the read returns the same
+    // value, so passes up to the next LY/STAT change can be skipped
+    private static int idleRead(int start, int length, int[] addresses, int[] opcodes, byte[] code) {
+        if (length < 2) {
+            return 0;
+        }
+
+        int addr;
+        if (opcodes[0] == 0xF0) {        // LDH A, (n)
+            addr = 0xFF00 | (code[1] & 0xFF);
+        } else if (opcodes[0] == 0xFA) { // LD A, (nn)
+            addr = (code[1] & 0xFF) | ((code[2] & 0xFF) << 8);
+        } else {
+            return 0;
+        }
+        if (addr != 0xFF41 && addr != 0xFF44) {
+            return 0;
+        }
+
+        for (int i = 1; i < length - 1; i++) {
+            int op = opcodes[i];
+            boolean pure = op == 0xFE || op == 0xE6                 // CP n, AND n
+                || (op >= 0xB8 && op <= 0xBF && op != 0xBE)         // CP r
+                || (op >= 0xA0 && op <= 0xA7 && op != 0xA6)         // AND r
+                || (op >= 0x140 && op <= 0x17F && (op & 7) != 6);   // BIT b, r
+            if (!pure) {
+                return 0;
+            }
+        }
+
+        int last = length - 1;
+        int op = opcodes[last];
+        int offset = addresses[last] - start;
+        int target;
+        if (op == 0x20 || op == 0x28 || op == 0x30 || op == 0x38) {        // JR cc, e
+            target = addresses[last] + 2 + code[offset + 1];
+        } else if (op == 0xC2 || op == 0xCA || op == 0xD2 || op == 0xDA) { // JP cc, nn
+            target = (code[offset + 1] & 0xFF) | ((code[offset + 2] & 0xFF) << 8);
+        } else {
+            return 0;
+        }
+        return (target & 0xFFFF) == start ? addr : 0;
+    }
+
+    private static Block decode(Cpu cpu, int start, int bank) {
+        int[] addresses = new int[MAX_INSTRUCTIONS];
+        int[] opcodes = new int[MAX_INSTRUCTIONS];
+        Instruction[] handlers = new Instruction[MAX_INSTRUCTIONS];
+        byte[] bytes = new byte[MAX_INSTRUCTIONS * 3];
+
+        int pc = start;
+        int n = 0;
+        int size = 0;
+
+        while (n < MAX_INSTRUCTIONS) {
+            int opcode = cpu.read8(pc) & 0xFF;
+            int len = InstructionDecoder.length(opcode);
+
+            // keep blocks inside one 16KB region so a bank switch can't split them
+            if (n > 0 && (((pc + len - 1) >> 14) != (start >> 14) || pc + len > 0x10000)) {
+                break;
+            }
+
+            Instruction ins;
+            int op;
+            if (opcode == 0xCB) {
+                int cb = cpu.read8(pc + 1) & 0xFF;
+                ins = InstructionDecoder.getCBIns(cb);
+                op = 0x100 | cb;
+                if (ins == null && n == 0) {
+                    throw new RuntimeException(String.format("Unimplemented CB opcode: CB 0x%02X", cb));
+                }
+            } else {
+                ins = InstructionDecoder.getIns(opcode);
+                op = opcode;
+                if (ins == null && n == 0) {
+                    throw new RuntimeException(String.format("Unimplemented opcode: 0x%02X", opcode));
+                }
+            }
+
+            // leave unimplemented opcodes to be reported when they are reached
+            if (ins == null) {
+                break;
+            }
+
+            for (int i = 0; i < len; i++) {
+                bytes[size++] = cpu.read8(pc + i);
+            }
+
+            addresses[n] = pc;
+            opcodes[n] = op;
+            handlers[n] = ins;
+            n++;
+            pc += len;
+
+            if (InstructionDecoder.endsBlock(opcode)) {
+                break;
+            }
+        }
+
+        return new Block(start, bank, n,
+            Arrays.copyOf(addresses, n),
+            Arrays.copyOf(opcodes, n),
+            Arrays.copyOf(handlers, n),
+            Arrays.copyOf(bytes, size));
+    }
+}
@@ -0,0 +1,418 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Translates hot basic blocks into hidden JVM classes so HotSpot can compile
+// them to native code. Each block becomes one straight-line run(Cpu) method:
+// simple loads and 16-bit inc/dec are emitted inline with the immediates baked
+// in as constants, everything else calls SwitchInterpreter with a constant
+// opcode. Between instructions the method does the same bookkeeping as
+// Cpu.step_no_stdout and returns early if an interrupt is due or the block
+// was invalidated, leaving PC at the next instruction for the interpreter.
+public class BlockCompiler {
+    // block executions before it is compiled, CPU_HOT_THRESHOLD overrides
+    public static final int HOT_THRESHOLD =
+        System.getenv("CPU_HOT_THRESHOLD") != null ? Integer.parseInt(System.getenv("CPU_HOT_THRESHOLD")) : 500;
+
+    // translated blocks kept for sharing, CPU_COMPILED_BLOCKS overrides
+    public static final int SHARED_LIMIT =
+        System.getenv("CPU_COMPILED_BLOCKS") != null ? Integer.parseInt(System.getenv("CPU_COMPILED_BLOCKS")) : 8192;
+
+    // translated code only depends on the block address and bytes, so consoles
+    // running the same ROM share it. Least recently compiled-or-shared first
+    // out, so self-modifying code, code in RAM and long-lived sessions can't
+    // fill metaspace; an evicted class is unloaded once no block holds it
+    private static final Map<String, CompiledBlock> shared = Collections.synchronizedMap(new SharedBlocks());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String[] REG8 = { "B", "C", "D", "E", "H", "L", null, "A" };
+    private static final String[] REG16 = { "BC", "DE", "HL", "SP" };
+
+    public static int sharedCount() {
+        return shared.size();
+    }
+
+    // compile a block, or return null if it has to stay interpreted
+    public static CompiledBlock compile(BlockCache.Block block) {
+        if (!isCompilable(block)) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder().append(block.start).append(':');
+        for (byte b : block.code) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        // only the lookup and the insert hold the map's lock, so a compile on one
+        // console doesn't stall block lookups on the others; two consoles racing
+        // on the same block both translate it and the first one in is kept
+        String k = key.toString();
+        CompiledBlock compiled = shared.get(k);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = define(block);
+        if (compiled == null) {
+            return null;
+        }
+        CompiledBlock raced = shared.putIfAbsent(k, compiled);
+        return raced != null ? raced : compiled;
+    }
+
+    private static CompiledBlock define(BlockCache.Block block) {
+        try {
+            byte[] bytes = translate(block);
+            Class<?> cls = LOOKUP.defineHiddenClass(bytes, true).lookupClass();
+            return (CompiledBlock) LOOKUP.findConstructor(cls, MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            System.out.println("Block compile failed at " + String.format("0x%04X", block.start) + ": " + e);
+            return null;
+        }
+    }
+
+    private static final class SharedBlocks extends LinkedHashMap<String, CompiledBlock> {
+        private static final long serialVersionUID = 1L;
+
+        SharedBlocks() {
+            super(256, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledBlock> eldest) {
+            return size() > SHARED_LIMIT;
+        }
+    }
+
+    // EI/DI/RETI change IME mid-block and HALT/STOP stop the clock, leave those to the interpreter
+    private static boolean isCompilable(BlockCache.Block block) {
+        for (int i = 0; i < block.length; i++) {
+            switch (block.opcodes[i]) {
+                case 0x10: case 0x76: case 0xD9: case 0xF3: case 0xFB:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return block.length > 0;
+    }
+
+    private static byte[] translate(BlockCache.Block block) throws IOException {
+        ClassFile cf = new ClassFile("CompiledBlock$" + Integer.toHexString(block.start));
+        Code code = new Code(cf.pool);
+
+        for (int i = 0; i < block.length; i++) {
+            int addr = block.addresses[i];
+            int op = block.opcodes[i];
+            int next = addr + InstructionDecoder.length(op >= 0x100 ? 0xCB : op);
+            int offset = addr - block.start;
+
+            if (i > 0) {
+                // same checks the interpreter runs before every instruction
+                code.aload1();
+                code.invokevirtual("Cpu", "betweenInstructions", "()Z");
+                code.returnIfTrue();
+            }
+
+            if (!emitInline(code, block, op, offset, next)) {
+                // PC after the opcode, the handler fetches its immediates from the block
+                code.setPC(addr + (op >= 0x100 ? 2 : 1));
+                code.aload1();
+                code.push(op & 0xFF);
+                code.invokestatic("SwitchInterpreter", op >= 0x100 ? "executeCB" : "execute", "(LCpu;I)V");
+            }
+        }
+
+        code.return_();
+        return cf.toBytes(code);
+    }
+
+    // emit an instruction directly, false if it needs the interpreter
+    private static boolean emitInline(Code code, BlockCache.Block block, int op, int offset, int next) {
+        if (op == 0x00) { // NOP
+            code.incCycles(4);
+        } else if (op >= 0x40 && op < 0x80 && (op & 0x07) != 6 && ((op >> 3) & 0x07) != 6) { // LD r, r'
+            String dst = REG8[(op >> 3) & 0x07];
+            String src = REG8[op & 0x07];
+            code.aload1();
+            code.aload1();
+            code.invokevirtual("Cpu", "get" + src, "()I");
+            code.invokevirtual("Cpu", "set" + dst, "(I)V");
+            code.incCycles(4);
+        } else if (op < 0x40 && (op & 0x07) == 6 && op != 0x36) { // LD r, d8
+            code.aload1();
+            code.push(block.code[offset + 1] & 0xFF);
+            code.invokevirtual("Cpu", "set" + REG8[op >> 3], "(I)V");
+            code.incCycles(8);
+        } else if (op < 0x40 && (op & 0x0F) == 0x01) { // LD rr, d16
+            int value = (block.code[offset + 1] & 0xFF) | ((block.code[offset + 2] & 0xFF) << 8);
+            code.aload1();
+            code.push(value);
+            code.invokevirtual("Cpu", "set" + REG16[op >> 4], "(I)V");
+            code.incCycles(12);
+        } else if (op < 0x40 && ((op & 0x0F) == 0x03 || (op & 0x0F) == 0x0B)) { // INC rr, DEC rr
+            String reg = REG16[op >> 4];
+            code.aload1();
+            code.aload1();
+            code.invokevirtual("Cpu", "get" + reg, "()I");
+            code.push(1);
+            code.op((op & 0x0F) == 0x03 ? Code.IADD : Code.ISUB);
+            code.invokevirtual("Cpu", "set" + reg, "(I)V");
+            code.incCycles(8);
+        } else if (op == 0xC3) { // JP a16
+            code.setPC((block.code[offset + 1] & 0xFF) | ((block.code[offset + 2] & 0xFF) << 8));
+            code.incCycles(16);
+            return true;
+        } else if (op == 0x18) { // JR r8
+            code.setPC(next + block.code[offset + 1]);
+            code.incCycles(12);
+            return true;
+        } else {
+            return false;
+        }
+
+        code.setPC(next);
+        return true;
+    }
+
+    // minimal class file writer: one class implementing CompiledBlock with a
+    // no-arg constructor and run(Cpu). Version 49 class files are verified by
+    // type inference, so branches need no StackMapTable.
+    private static class ClassFile {
+        private static final int VERSION = 49;
+
+        final ConstantPool pool = new ConstantPool();
+        final String name;
+
+        ClassFile(String name) {
+            this.name = name;
+        }
+
+        byte[] toBytes(Code run) throws IOException {
+            int thisClass = pool.classRef(name);
+            int superClass = pool.classRef("java/lang/Object");
+            int iface = pool.classRef("CompiledBlock");
+            int codeAttr = pool.utf8("Code");
+
+            Code init = new Code(pool);
+            init.aload0();
+            init.invokespecial("java/lang/Object", "<init>", "()V");
+            init.return_();
+
+            int initName = pool.utf8("<init>");
+            int initDesc = pool.utf8("()V");
+            int runName = pool.utf8("run");
+            int runDesc = pool.utf8("(LCpu;)V");
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            pool.write(out);
+            out.writeShort(0x0001 | 0x0010 | 0x0020); // public final super
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(iface);
+            out.writeShort(0); // fields
+
+            out.writeShort(2); // methods
+            writeMethod(out, initName, initDesc, codeAttr, init, 1);
+            writeMethod(out, runName, runDesc, codeAttr, run, 2);
+
+            out.writeShort(0); // attributes
+            return bytes.toByteArray();
+        }
+
+        private static void writeMethod(DataOutputStream out, int name, int desc, int codeAttr, Code code, int maxLocals) throws IOException {
+            byte[] insns = code.bytes.toByteArray();
+            out.writeShort(0x0001); // public
+            out.writeShort(name);
+            out.writeShort(desc);
+            out.writeShort(1);
+            out.writeShort(codeAttr);
+            out.writeInt(2 + 2 + 4 + insns.length + 2 + 2);
+            out.writeShort(Code.MAX_STACK);
+            out.writeShort(maxLocals);
+            out.writeInt(insns.length);
+            out.write(insns);
+            out.writeShort(0); // exception table
+            out.writeShort(0); // attributes
+        }
+    }
+
+    private static class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            Integer index = entries.get("U" + value);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(1);
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entries.put("U" + value, count);
+            return count++;
+        }
+
+        int classRef(String name) {
+            return entry("C" + name, 7, utf8(name), -1);
+        }
+
+        int methodRef(String owner, String name, String desc) {
+            return entry("M" + owner + "." + name + desc, 10, classRef(owner), nameAndType(name, desc));
+        }
+
+        int integer(int value) {
+            Integer index = entries.get("I" + value);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(3);
+                out.writeInt(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entries.put("I" + value, count);
+            return count++;
+        }
+
+        private int nameAndType(String name, String desc) {
+            return entry("N" + name + desc, 12, utf8(name), utf8(desc));
+        }
+
+        private int entry(String key, int tag, int a, int b) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(tag);
+                out.writeShort(a);
+                if (b >= 0) {
+                    out.writeShort(b);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entries.put(key, count);
+            return count++;
+        }
+
+        void write(DataOutputStream dst) throws IOException {
+            dst.writeShort(count);
+            dst.write(bytes.toByteArray());
+        }
+    }
+
+    private static class Code {
+        static final int MAX_STACK = 4;
+
+        static final int ALOAD_0 = 0x2A;
+        static final int ALOAD_1 = 0x2B;
+        static final int ICONST_0 = 0x03;
+        static final int BIPUSH = 0x10;
+        static final int SIPUSH = 0x11;
+        static final int LDC_W = 0x13;
+        static final int IADD = 0x60;
+        static final int ISUB = 0x64;
+        static final int IFEQ = 0x99;
+        static final int RETURN = 0xB1;
+        static final int INVOKEVIRTUAL = 0xB6;
+        static final int INVOKESPECIAL = 0xB7;
+        static final int INVOKESTATIC = 0xB8;
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final ConstantPool pool;
+
+        Code(ConstantPool pool) {
+            this.pool = pool;
+        }
+
+        void op(int opcode) {
+            bytes.write(opcode);
+        }
+
+        void u2(int value) {
+            bytes.write((value >> 8) & 0xFF);
+            bytes.write(value & 0xFF);
+        }
+
+        void aload0() {
+            op(ALOAD_0);
+        }
+
+        void aload1() {
+            op(ALOAD_1);
+        }
+
+        void push(int value) {
+            if (value >= -1 && value <= 5) {
+                op(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                op(BIPUSH);
+                bytes.write(value & 0xFF);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                op(SIPUSH);
+                u2(value);
+            } else {
+                op(LDC_W);
+                u2(pool.integer(value));
+            }
+        }
+
+        void invokevirtual(String owner, String name, String desc) {
+            op(INVOKEVIRTUAL);
+            u2(pool.methodRef(owner, name, desc));
+        }
+
+        void invokespecial(String owner, String name, String desc) {
+            op(INVOKESPECIAL);
+            u2(pool.methodRef(owner, name, desc));
+        }
+
+        void invokestatic(String owner, String name, String desc) {
+            op(INVOKESTATIC);
+            u2(pool.methodRef(owner, name, desc));
+        }
+
+        void setPC(int pc) {
+            aload1();
+            push(pc & 0xFFFF);
+            invokevirtual("Cpu", "setPC", "(I)V");
+        }
+
+        void incCycles(int cycles) {
+            aload1();
+            push(cycles);
+            invokevirtual("Cpu", "incCycles", "(I)V");
+        }
+
+        // return if the boolean on the stack is true
+        void returnIfTrue() {
+            op(IFEQ);
+            u2(4); // skip over the return below
+            op(RETURN);
+        }
+
+        void return_() {
+            op(RETURN);
+        }
+    }
+}
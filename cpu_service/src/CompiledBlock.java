@@ -0,0 +1,4 @@
+// a basic block translated to JVM bytecode by BlockCompiler
+public interface CompiledBlock {
+    void run(Cpu cpu);
+}
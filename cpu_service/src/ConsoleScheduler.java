@@ -0,0 +1,265 @@
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// runs started consoles on a fixed pool of worker threads, one frame per slice;
+// each worker keeps its consoles in earliest-deadline-first order and steals
+// released consoles from other workers when it has nothing ready itself
+public final class ConsoleScheduler {
+    // CPU_WORKERS overrides the pool size, default one worker per core
+    private static final int WORKERS = System.getenv("CPU_WORKERS") != null
+        ? Integer.parseInt(System.getenv("CPU_WORKERS"))
+        : Runtime.getRuntime().availableProcessors();
+
+    // how long an idle worker sleeps before looking for work to steal again
+    private static final long IDLE_NS = 1_000_000;
+
+    // uncapped consoles get deadlines this far out, so paced frames always go
+    // first and uncapped ones share whatever time is left in FIFO order
+    private static final long BACKGROUND_NS = Long.MAX_VALUE / 2;
+
+    private static volatile ConsoleScheduler instance;
+
+    public static ConsoleScheduler get() {
+        ConsoleScheduler s = instance;
+        if (s == null) {
+            synchronized (ConsoleScheduler.class) {
+                s = instance;
+                if (s == null) {
+                    s = new ConsoleScheduler(WORKERS);
+                    instance = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    // a console's place in the schedule
+    public static final class Slot {
+        final Cpu cpu;
+        long period;         // wall time of one frame, 0 when uncapped
+        long release;        // earliest start of the next frame
+        long deadline;       // when that frame should be done
+        Worker worker;       // owner, changes when stolen
+        boolean removed;
+
+        // held while a frame runs, so remove() can wait for it
+        final ReentrantLock slice = new ReentrantLock();
+
+        Slot(Cpu cpu, long now) {
+            this.cpu = cpu;
+            this.period = cpu.frameNanos();
+            this.release = now;
+            this.deadline = deadline(now, period);
+        }
+
+        static long deadline(long release, long period) {
+            return period == 0 ? release + BACKGROUND_NS : release + period;
+        }
+    }
+
+    final class Worker implements Runnable {
+        final ReentrantLock lock = new ReentrantLock();
+        final PriorityQueue<Slot> waiting = new PriorityQueue<>(Comparator.comparingLong((Slot s) -> s.release));
+        final PriorityQueue<Slot> ready = new PriorityQueue<>(Comparator.comparingLong((Slot s) -> s.deadline));
+        final Thread thread;
+        int consoles;
+
+        Worker(int index) {
+            thread = new Thread(this, "cpu-worker-" + index);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Slot slot = take();
+                if (slot == null) {
+                    slot = steal();
+                }
+                if (slot == null) {
+                    idle();
+                    continue;
+                }
+                runSlice(slot);
+            }
+        }
+
+        // move consoles whose frame is due into the ready queue, caller holds lock
+        private void release(long now) {
+            Slot head;
+            while ((head = waiting.peek()) != null && head.release <= now) {
+                ready.add(waiting.poll());
+            }
+        }
+
+        private Slot take() {
+            lock.lock();
+            try {
+                release(System.nanoTime());
+                return ready.poll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Slot steal() {
+            int start = ThreadLocalRandom.current().nextInt(workers.length);
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+                if (victim == this || !victim.lock.tryLock()) {
+                    continue;
+                }
+
+                Slot slot;
+                try {
+                    victim.release(System.nanoTime());
+                    slot = victim.ready.poll();
+                    if (slot == null) {
+                        continue;
+                    }
+                    victim.consoles--;
+                    slot.worker = this;
+                } finally {
+                    victim.lock.unlock();
+                }
+
+                lock.lock();
+                try {
+                    consoles++;
+                } finally {
+                    lock.unlock();
+                }
+                return slot;
+            }
+            return null;
+        }
+
+        private void idle() {
+            long wait = IDLE_NS;
+            lock.lock();
+            try {
+                Slot head = waiting.peek();
+                if (head != null) {
+                    wait = Math.min(wait, head.release - System.nanoTime());
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+
+        private void runSlice(Slot slot) {
+            slot.slice.lock();
+            try {
+                if (slot.removed) {
+                    return;
+                }
+                slot.cpu.runScheduledFrame();
+            } catch (RuntimeException e) {
+                slot.cpu.stopFaulted(e);
+                remove(slot);
+                return;
+            } finally {
+                slot.slice.unlock();
+            }
+
+            long now = System.nanoTime();
+            if (now > slot.deadline) {
+                slot.cpu.deadlineMissed();
+            }
+
+            long period = slot.cpu.frameNanos();
+            if (period != slot.period || period == 0) {
+                // speed changed or uncapped, pace from here on
+                slot.period = period;
+                slot.release = now;
+            } else {
+                // deadlines follow a fixed schedule, so a late frame shortens the next wait
+                slot.release += period;
+                if (now - slot.release > Cpu.MAX_LAG_FRAMES * period) {
+                    // too slow or stalled on I/O, restart the schedule from now
+                    slot.cpu.frameDropped();
+                    slot.release = now;
+                }
+            }
+            slot.deadline = Slot.deadline(slot.release, period);
+
+            lock.lock();
+            try {
+                if (!slot.removed) {
+                    waiting.add(slot);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final Worker[] workers;
+
+    private ConsoleScheduler(int count) {
+        workers = new Worker[count];
+        for (int i = 0; i < count; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    public int getWorkers() {
+        return workers.length;
+    }
+
+    // schedule a console, giving it to the worker with the fewest
+    public Slot add(Cpu cpu) {
+        Worker target = workers[0];
+        for (Worker worker : workers) {
+            if (worker.consoles < target.consoles) {
+                target = worker;
+            }
+        }
+
+        Slot slot = new Slot(cpu, System.nanoTime());
+        target.lock.lock();
+        try {
+            slot.worker = target;
+            target.consoles++;
+            target.waiting.add(slot);
+        } finally {
+            target.lock.unlock();
+        }
+        LockSupport.unpark(target.thread);
+        return slot;
+    }
+
+    // unschedule a console; returns once any frame it is running has finished
+    public void remove(Slot slot) {
+        while (true) {
+            Worker owner = slot.worker;
+            owner.lock.lock();
+            try {
+                if (slot.worker != owner) {
+                    continue; // stolen meanwhile
+                }
+                if (!slot.removed) {
+                    slot.removed = true;
+                    owner.waiting.remove(slot);
+                    owner.ready.remove(slot);
+                    owner.consoles--;
+                }
+            } finally {
+                owner.lock.unlock();
+            }
+            break;
+        }
+
+        slot.slice.lock();
+        slot.slice.unlock();
+    }
+}
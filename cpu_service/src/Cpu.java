@@ -1,49 +1,201 @@
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
 public class Cpu {
-    private short AF; // A, Flags
-    private short BC; // B, C
-    private short DE; // D, E
-    private short HL; // H, L
-    private short SP;
-    private short PC;
+    // one int per register, 8-bit values in 0..0xFF and 16-bit in 0..0xFFFF;
+    // the AF/BC/DE/HL pair views are only built when a 16-bit op asks for them
+    private int A;
+    private int F; // Z N H C in bits 7-4, low nibble always 0
+    private int B;
+    private int C;
+    private int D;
+    private int E;
+    private int H;
+    private int L;
+    private int SP;
+    private int PC;
+
+    // interrupt enable (FFFF) and request (FF0F) registers live here rather than
+    // in the page cache; Io routes bus accesses to them, so a pending check is
+    // IE & IF and raising an interrupt never touches memory_service
+    private int IE;
+    private int IF;
     
     private static final int FLAG_Z = 0x80;
     private static final int FLAG_N = 0x40;
     private static final int FLAG_H = 0x20;
     private static final int FLAG_C = 0x10;
+
+    // deferred flags for the ops Alu has no table for: they record their
+    // operands and result, and F is only built when something reads it
+    private static final int FLAGS_NONE = 0;        // F is up to date
+    private static final int FLAGS_AND = 1;         // flagResult = A & x
+    private static final int FLAGS_OR = 2;          // OR/XOR/SWAP, flagResult = the result
+    private static final int FLAGS_ADD16 = 3;       // ADD HL, flagResult = hl + rr, Z kept in F
+    private static final int FLAGS_ROTATE_LEFT = 4; // RLCA/RLA, flagResult = v << 1 | bit
+    private static final int FLAGS_ROTATE_RIGHT = 5; // RRCA/RRA, C from bit 0 of flagA
+    private static final int FLAGS_SHIFT_LEFT = 6;  // RLC/RL/SLA, as RLCA but with Z
+    private static final int FLAGS_SHIFT_RIGHT = 7; // RRC/RR/SRA/SRL, as RRCA but with Z
+
+    private int flagOp = FLAGS_NONE;
+    private int flagA;
+    private int flagB;
+    private int flagResult;
     
     private int id;
 
-    private Instruction[] table = new Instruction[256];
-    private Instruction[] cbTable = new Instruction[256];
-    
-    private int cycles = 0;
+    // execution engine used by step_no_stdout
+    public enum Engine {
+        TABLE,  // Instruction objects from InstructionDecoder
+        SWITCH, // SwitchInterpreter
+        TIERED; // SwitchInterpreter, hot blocks compiled to bytecode by BlockCompiler
+
+        public static Engine parse(String name) {
+            return Engine.valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    // service-wide default (CPU_ENGINE=table|switch|tiered), can be changed per console
+    private static final Engine DEFAULT_ENGINE =
+        System.getenv("CPU_ENGINE") != null ? Engine.parse(System.getenv("CPU_ENGINE")) : Engine.TABLE;
+
+    private volatile Engine engine = DEFAULT_ENGINE;
+
+    // thread start() runs the console on
+    public enum ThreadMode {
+        SCHEDULED, // frames handed out by ConsoleScheduler's worker pool
+        PLATFORM,  // one OS thread per console
+        VIRTUAL;   // virtual thread, unmounted while parked or blocked on memory_service
+
+        public static ThreadMode parse(String name) {
+            return ThreadMode.valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    // service-wide default (CPU_THREADS=scheduled|platform|virtual), can be changed per console
+    private static final ThreadMode DEFAULT_THREAD_MODE =
+        System.getenv("CPU_THREADS") != null ? ThreadMode.parse(System.getenv("CPU_THREADS")) : ThreadMode.SCHEDULED;
+
+    private volatile ThreadMode threadMode = DEFAULT_THREAD_MODE;
+
+    // how a new or reset console starts
+    public enum Boot {
+        FULL, // runs Io.BIOS from 0x0000, logo scroll and all
+        FAST; // installs the state it leaves (see PostBoot) and starts at 0x0100
+
+        public static Boot parse(String name) {
+            return Boot.valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    // service-wide default (CPU_BOOT=full|fast), can be changed per console
+    private static final Boot DEFAULT_BOOT =
+        System.getenv("CPU_BOOT") != null ? Boot.parse(System.getenv("CPU_BOOT")) : Boot.FULL;
+
+    private volatile Boot boot = DEFAULT_BOOT;
+    private boolean bootPending = true; // until the first run after construction or reset
+
+    // decoded basic blocks, on unless CPU_BLOCK_CACHE=off
+    private static final boolean DEFAULT_BLOCK_CACHE = !"off".equalsIgnoreCase(System.getenv("CPU_BLOCK_CACHE"));
+
+    private final BlockCache blockCache = new BlockCache();
+    private boolean blockCacheEnabled = DEFAULT_BLOCK_CACHE;
+    private BlockCache.Block block; // block holding the next expected instruction
+    private int blockIndex;
+
+    // skip passes of LY/STAT polling loops (needs the block cache), on unless CPU_IDLE_SKIP=off
+    private static final boolean DEFAULT_IDLE_SKIP = !"off".equalsIgnoreCase(System.getenv("CPU_IDLE_SKIP"));
+
+    private boolean idleSkipEnabled = DEFAULT_IDLE_SKIP;
+    private BlockCache.Block idleBlock; // idle loop entered last, and the cycle it was entered at
+    private long idleEntry;
+    private long idleSkips;
+    private long idleCyclesSkipped;
+
+    // fused handlers for common sequences (see Superinstruction, needs the block
+    // cache), on unless CPU_SUPERINSTRUCTIONS=off; like compiled blocks they are
+    // bypassed while tracing or counting opcodes
+    private static final boolean DEFAULT_SUPERINSTRUCTIONS = !"off".equalsIgnoreCase(System.getenv("CPU_SUPERINSTRUCTIONS"));
+
+    private boolean superinstructionsEnabled = DEFAULT_SUPERINSTRUCTIONS;
+    private final long[] superinstructionFires = new long[InstructionDecoder.getSuperinstructions().length];
+    private long stepStart; // cycles and budget of a step running several instructions
+    private long stepLimit; // (a superinstruction or a compiled block)
+
+    // binary trace of the last instructions, off unless enabled per console or
+    // with CPU_TRACE=<records>; compiled blocks are bypassed while it records.
+    // When a step throws, the trace is frozen (and written to CPU_TRACE_DIR if set).
+    // Nothing is captured for a fault while tracing is off, so turn it on for
+    // consoles expected to fault rather than paying for a ring on every one
+    private static final int DEFAULT_TRACE = System.getenv("CPU_TRACE") != null ? Integer.parseInt(System.getenv("CPU_TRACE")) : 0;
+    private static final String TRACE_DIR = System.getenv("CPU_TRACE_DIR");
+
+    private volatile TraceBuffer trace;
+
+    // executions and cycles per opcode (see OpcodeStats), off unless enabled per
+    // console or with CPU_OPCODE_STATS=on; compiled blocks are bypassed while counting
+    private static final boolean DEFAULT_OPCODE_STATS = "on".equalsIgnoreCase(System.getenv("CPU_OPCODE_STATS"));
+
+    private volatile long[] opcodeCounters;
+
+    private long cycles = 0;
+
+    // PPU, timer and serial events, run whenever cycles reaches timing.nextEvent
+    private final Timing timing = new Timing(this);
     
     private boolean interruptsEnabled = false;
     private boolean imeQueued = false;
 
+    // set by HALT, cleared once IE & IF is non-zero
+    private boolean halted = false;
+
+
     public Cpu(int id) {
         this.id = id;
 
-        this.AF = 0;
-        this.BC = 0;
-        this.DE = 0;
-        this.HL = 0;
-        this.SP = 0;
-        this.PC = 0;
-        
-        InstructionDecoder.buildInstructionTable(this);
-        InstructionDecoder.buildCbInstructionTable(this);
+        clearRegisters();
+        if (DEFAULT_TRACE > 0) {
+            trace = new TraceBuffer(id, DEFAULT_TRACE);
+        }
+        if (DEFAULT_OPCODE_STATS) {
+            opcodeCounters = OpcodeStats.newCounters();
+        }
     }
 
     public void reset() {
-        this.AF = 0;
-        this.BC = 0;
-        this.DE = 0;
-        this.HL = 0;
+        clearRegisters();
+        halted = false;
+        fault = null;
+        bootPending = true;
+
+        blockCache.clear();
+        block = null;
+        idleBlock = null;
+    }
+    
+    private void clearRegisters() {
+        this.A = 0;
+        this.F = 0;
+        this.flagOp = FLAGS_NONE;
+        this.B = 0;
+        this.C = 0;
+        this.D = 0;
+        this.E = 0;
+        this.H = 0;
+        this.L = 0;
         this.SP = 0;
         this.PC = 0;
+        this.IE = 0;
+        this.IF = 0;
     }
-    
+
     public static byte BYTE(int n) {
         return (byte) (n & 0xFF);
     }
@@ -52,7 +204,17 @@ public class Cpu {
         return (short) (n & 0xFFFF);
     }
 
-    public void step() throws Exception {
+    public void step() {
+        bootIfPending();
+        applyButtons();
+        if (halted && haltStep(Long.MAX_VALUE)) {
+            System.out.printf("HALT: skipped to cycle %d\n", cycles);
+            return;
+        }
+
+        if (cycles >= timing.nextEvent) {
+            timing.run(cycles);
+        }
         handleInterrupts();
 
         // Print BEFORE state
@@ -62,13 +224,13 @@ public class Cpu {
         int opcode = read8(PC) & 0xFF;
         System.out.println(String.format("PC: 0x%04X  Opcode: 0x%X", PC, opcode == 0xCB ? ((opcode << 8 ) | (read8(PC + 1) & 0xFF)) : opcode));
 
-        PC++;
+        PC = (PC + 1) & 0xFFFF;
         
         Instruction ins;
 
         if (opcode == 0xCB) {
             int cb = read8(PC) & 0xFF;
-            PC++;
+            PC = (PC + 1) & 0xFFFF;
             ins = getCBIns(cb);
             if (ins == null) {
                 throw new RuntimeException(String.format("Unimplemented CB opcode: CB 0x%02X", cb));
@@ -94,102 +256,749 @@ public class Cpu {
         System.out.println("====================\n");
     }
 
-    public void step_no_stdout() throws Exception {
-        // trigger vblank interrupt at LY = 144
-        int cyclesInFrame = this.cycles % 70224;
-        int ly = cyclesInFrame / 456;
+    public void step_no_stdout() {
+        bootIfPending();
+        applyButtons();
+        step(Long.MAX_VALUE);
+    }
 
-        if (ly == 144) {
-            // set the vblank bit in IF (bit 0)
-            byte currentIF = getIF();
-            setIF((byte)(currentIF | 0x01));
+    // one instruction, or one HALT/idle-loop fast-forward of at most limit cycles
+    private void step(long limit) {
+        if (halted && haltStep(limit)) {
+            return;
         }
 
+        if (cycles >= timing.nextEvent) {
+            timing.run(cycles);
+        }
         handleInterrupts();
 
-        int opcode = read8(PC) & 0xFF;
-        PC++;
+        int start = PC;
+        try {
+            executeOne(start, limit);
+        } catch (RuntimeException e) {
+            traceFault(start, e);
+            throw e;
+        }
 
-        Instruction ins;
+        if (imeQueued) {
+            interruptsEnabled = true;
+            imeQueued = false;
+        }
+    }
 
-        if (opcode == 0xCB) {
-            int cb = read8(PC) & 0xFF;
-            PC++;
-            ins = getCBIns(cb);
-            if (ins == null) {
-                throw new RuntimeException(String.format("Unimplemented CB opcode: CB 0x%02X", cb));
-            }
+    private void executeOne(int pc, long limit) {
+        if (blockCacheEnabled) {
+            executeCached(limit);
         } else {
-            ins = getIns(opcode);
-            if (ins == null) {
-                throw new RuntimeException(String.format("Unimplemented opcode: 0x%02X", opcode));
+            int opcode = read8(PC) & 0xFF;
+            PC = (PC + 1) & 0xFFFF;
+
+            Instruction ins;
+            int op;
+
+            if (opcode == 0xCB) {
+                int cb = read8(PC) & 0xFF;
+                PC = (PC + 1) & 0xFFFF;
+                ins = getCBIns(cb);
+                op = 0x100 | cb;
+                if (ins == null) {
+                    throw new RuntimeException(String.format("Unimplemented CB opcode: CB 0x%02X", cb));
+                }
+            } else {
+                ins = getIns(opcode);
+                op = opcode;
+                if (ins == null) {
+                    throw new RuntimeException(String.format("Unimplemented opcode: 0x%02X", opcode));
+                }
+            }
+
+            //System.out.printf("got instruction '%s' at %d (0x%04X)\n", ins.name(), PC & 0xFFFF, PC & 0xFFFF);
+
+            TraceBuffer t = trace;
+            if (t != null) {
+                traceInstruction(t, pc, op, 0);
             }
+            dispatch(op, ins);
         }
-        
-        //System.out.printf("got instruction '%s' at %d (0x%04X)\n", ins.name(), PC & 0xFFFF, PC & 0xFFFF);
+    }
 
-        ins.execute(this);
+    private void traceInstruction(TraceBuffer t, int pc, int op, int flags) {
+        t.record(cycles,
+            ((long) A << 56) | ((long) getF() << 48) | ((long) B << 40) | ((long) C << 32)
+                | ((long) D << 24) | (E << 16) | (H << 8) | L,
+            ((long) pc << 48) | ((long) SP << 32) | ((long) op << 16) | flags);
+    }
+
+    // record the instruction that threw (e.g. an unimplemented opcode) and keep
+    // the trace; only while tracing, see trace
+    private void traceFault(int pc, RuntimeException e) {
+        TraceBuffer t = trace;
+        if (t == null) {
+            System.out.printf("console %d: no trace of the fault, tracing is off (POST /%d/trace/on or CPU_TRACE)\n", id, id);
+            return;
+        }
+        if (t.isFrozen()) {
+            return;
+        }
 
+        // already recorded if it was decoded and its handler threw
+        if (!t.flagLast(cycles, pc, TraceBuffer.FLAG_FAULT)) {
+            int op;
+            try {
+                op = read8(pc) & 0xFF;
+                if (op == 0xCB) {
+                    op = 0x100 | (read8(pc + 1) & 0xFF);
+                }
+            } catch (RuntimeException unreadable) {
+                op = 0; // the bus itself failed
+            }
+            traceInstruction(t, pc, op, TraceBuffer.FLAG_FAULT);
+        }
+        t.freeze(e.getMessage());
+
+        String where = "GET /trace/" + id;
+        if (TRACE_DIR != null) {
+            try {
+                Path file = Paths.get(TRACE_DIR, "trace-" + id + "-" + cycles + ".bin");
+                Files.write(file, t.dump());
+                where = file.toString();
+            } catch (Exception io) {
+                System.out.println(io);
+            }
+        }
+        System.out.printf("console %d: trace of the last %d instructions kept (%s)\n", id, Math.min(t.getWritten(), t.capacity()), where);
+    }
+
+    public long[] getOpcodeCounters() {
+        return opcodeCounters;
+    }
+
+    // start counting from zero, or stop
+    public void setOpcodeStatsEnabled(boolean enabled) {
+        this.opcodeCounters = enabled ? OpcodeStats.newCounters() : null;
+        this.block = null;
+    }
+
+    public TraceBuffer getTrace() {
+        return trace;
+    }
+
+    // records > 0 starts a fresh trace of that many instructions, 0 stops tracing
+    public void setTrace(int records) {
+        this.trace = records > 0 ? new TraceBuffer(id, records) : null;
+        this.block = null;
+    }
+
+    public boolean isHalted() {
+        return halted;
+    }
+
+    // HALT instruction: stop fetching until an enabled interrupt is requested
+    public void haltUntilInterrupt() {
+        halted = true;
+    }
+
+    // while halted nothing but the clock changes, so instead of spinning a
+    // step at a time run the timing events back to back until one of them
+    // requests an enabled interrupt (at most limit cycles, and a frame per
+    // call); false means the CPU is awake and the caller should go on with a
+    // normal step
+    private boolean haltStep(long limit) {
+        long start = cycles;
+        long end = start + Math.min(limit, CYCLES_PER_FRAME);
+        while (true) {
+            if (cycles >= timing.nextEvent) {
+                timing.run(cycles);
+            }
+            if ((IE & IF & 0x1F) != 0) {
+                halted = false;
+                return cycles != start;
+            }
+            if (cycles >= end) {
+                return true;
+            }
+            cycles = Math.min(timing.nextEvent, end);
+        }
+    }
+
+    public Timing getTiming() {
+        return timing;
+    }
+
+    // pressed buttons, bits 0-3 Right Left Up Down and 4-7 A B Select Start
+    public static final String[] BUTTONS = { "right", "left", "up", "down", "a", "b", "select", "start" };
+    private int buttons;
+
+    // set from any thread (POST /{id}/buttons), taken by the console's own
+    // thread at the start of its next run or step; -1 while nothing is waiting
+    private final AtomicInteger newButtons = new AtomicInteger(-1);
+
+    public int getButtons() {
+        return buttons;
+    }
+
+    // takes effect at the start of the next run or step, where a button going
+    // down requests the joypad interrupt
+    public void setButtons(int pressed) {
+        newButtons.set(pressed & 0xFF);
+    }
+
+    private void applyButtons() {
+        if (newButtons.get() < 0) {
+            return;
+        }
+        int pressed = newButtons.getAndSet(-1);
+        int down = pressed & ~buttons;
+        buttons = pressed;
+        if (down != 0) {
+            requestInterrupt(0x10);
+        }
+    }
+
+    // P1 (FF00) low nibble for the selected group(s), 0 = pressed
+    public int joypadLines(int select) {
+        int lines = 0;
+        if ((select & 0x10) == 0) {
+            lines |= buttons & 0x0F;
+        }
+        if ((select & 0x20) == 0) {
+            lines |= buttons >> 4;
+        }
+        return ~lines & 0x0F;
+    }
+
+    // what step_no_stdout does between two instructions, called from compiled
+    // blocks; true means the block has to return to the interpreter (the run's
+    // budget is used, an interrupt is due, or the block was invalidated by a
+    // write or bank switch)
+    public boolean betweenInstructions() {
         if (imeQueued) {
             interruptsEnabled = true;
             imeQueued = false;
         }
+
+        if (cycles - stepStart >= stepLimit) {
+            return true;
+        }
+
+        if (cycles >= timing.nextEvent) {
+            timing.run(cycles);
+        }
+
+        if (block == null) {
+            return true;
+        }
+        return interruptsEnabled && (IE & IF & 0x1F) != 0;
+    }
+
+    // run one decoded instruction on the selected engine, op is the opcode or 0x100 | cb
+    private void dispatch(int op, Instruction ins) {
+        long[] counters = opcodeCounters;
+        if (counters != null) {
+            long before = cycles;
+            invoke(op, ins);
+            counters[op * 2]++;
+            counters[op * 2 + 1] += cycles - before;
+        } else {
+            invoke(op, ins);
+        }
+    }
+
+    private void invoke(int op, Instruction ins) {
+        if (engine == Engine.TABLE) {
+            ins.execute(this);
+        } else {
+            if (op >= 0x100) {
+                SwitchInterpreter.executeCB(this, op & 0xFF);
+            } else {
+                SwitchInterpreter.execute(this, op);
+            }
+        }
+    }
+
+    // execute the instruction at PC out of the block cache; consecutive
+    // instructions of a block run without fetching or decoding again
+    private void executeCached(long limit) {
+        int pc = PC;
+        BlockCache.Block prev = block;
+        BlockCache.Block b = prev;
+        int i = blockIndex;
+
+        if (b == null || i >= b.length || b.addresses[i] != pc || !b.valid) {
+            b = nextBlock(pc);
+            i = 0;
+        }
+
+        block = b;
+
+        if (i == 0 && b.idleRead != 0 && idleSkipEnabled && skipIdle(b, prev == b, limit)) {
+            blockIndex = 0;
+            return;
+        }
+
+        TraceBuffer t = trace;
+        if (i == 0 && engine == Engine.TIERED && t == null && opcodeCounters == null) {
+            if (b.compiled == null && !b.uncompilable && ++b.hits >= BlockCompiler.HOT_THRESHOLD) {
+                b.compiled = BlockCompiler.compile(b);
+                b.uncompilable = b.compiled == null;
+            }
+
+            if (b.compiled != null) {
+                // whole block at once, it returns early with PC at the next instruction if it has to
+                blockIndex = b.length;
+                stepStart = cycles;
+                stepLimit = limit;
+                b.compiled.run(this);
+                return;
+            }
+        }
+
+        Superinstruction s;
+        if (b.fused != null && (s = b.fused[i]) != null && superinstructionsEnabled && t == null && opcodeCounters == null) {
+            stepStart = cycles;
+            stepLimit = limit;
+            PC = (pc + 1) & 0xFFFF;
+            int ran = engine == Engine.TABLE ? s.run(this) : s.runSwitch(this);
+            blockIndex = i + ran;
+            if (ran == s.length()) {
+                superinstructionFires[s.id]++;
+            }
+            return;
+        }
+
+        blockIndex = i + 1;
+
+        int op = b.opcodes[i];
+        if (t != null) {
+            traceInstruction(t, pc, op, 0);
+        }
+        PC = (pc + (op >= 0x100 ? 2 : 1)) & 0xFFFF;
+        dispatch(op, b.handlers[i]);
+    }
+
+    // entering an idle loop (see BlockCache.idleRead); if the last pass went
+    // straight round and read the same LY/STAT value the next one will, every
+    // pass until that value changes does the same, so add their cycles at once;
+    // true if it did, which takes the whole step
+    private boolean skipIdle(BlockCache.Block b, boolean looped, long limit) {
+        long now = cycles;
+        boolean skipped = false;
+        if (looped && idleBlock == b) {
+            // LY and STAT only change with the PPU state, and nothing else may
+            // happen before the next event (a timer overflow or serial
+            // completion would raise its interrupt late)
+            long pass = now - idleEntry;
+            if (pass > 0 && timing.getPpuChanged() <= idleEntry) {
+                long until = Math.min(timing.nextEvent, timing.getNextPpuChange());
+                long passes = Math.min((until - 1 - now) / pass, limit / pass);
+                if (passes > 0) {
+                    cycles += passes * pass;
+                    idleSkips++;
+                    idleCyclesSkipped += passes * pass;
+                    skipped = true;
+                }
+            }
+        }
+        idleBlock = b;
+        idleEntry = cycles;
+        return skipped;
+    }
+
+    public boolean isIdleSkipEnabled() {
+        return idleSkipEnabled;
+    }
+
+    public void setIdleSkipEnabled(boolean enabled) {
+        this.idleSkipEnabled = enabled;
+        this.idleBlock = null;
+    }
+
+    // number of fast-forwards, and the cycles they covered
+    public long getIdleSkips() {
+        return idleSkips;
+    }
+
+    public long getIdleCyclesSkipped() {
+        return idleCyclesSkipped;
+    }
+
+    // between two parts of a superinstruction: true if a separate step would not
+    // go straight on to the next one (budget used, timing event due, interrupt
+    // to take, or the block invalidated by a write)
+    boolean fusedBreak() {
+        return cycles - stepStart >= stepLimit
+            || cycles >= timing.nextEvent
+            || (interruptsEnabled && (IE & IF & 0x1F) != 0)
+            || block == null;
+    }
+
+    public boolean isSuperinstructionsEnabled() {
+        return superinstructionsEnabled;
+    }
+
+    public void setSuperinstructionsEnabled(boolean enabled) {
+        this.superinstructionsEnabled = enabled;
+    }
+
+    // completed runs of each superinstruction, indexed by Superinstruction.id
+    public long[] getSuperinstructionFires() {
+        return superinstructionFires;
+    }
+
+    private BlockCache.Block nextBlock(int pc) {
+        int bank = BlockCache.bankFor(this, pc);
+        BlockCache.Block prev = block;
+
+        // most blocks are always followed by the same one (loops, fallthrough)
+        if (prev != null && prev.link != null && prev.link.matches(pc, bank)) {
+            return prev.link;
+        }
+
+        BlockCache.Block next = blockCache.get(this, pc, bank);
+        if (prev != null) {
+            prev.link = next;
+        }
+        return next;
+    }
+
+    // read the byte at PC and advance PC; inside a cached block the
+    // immediates come from the block instead of going through Io again
+    public byte fetch8() {
+        int pc = PC;
+        PC = (pc + 1) & 0xFFFF;
+
+        BlockCache.Block b = block;
+        if (b != null) {
+            int offset = pc - b.start;
+            if (offset >= 0 && offset < b.code.length) {
+                return b.code[offset];
+            }
+        }
+        return read8(pc);
+    }
+
+    // called by Io for every write so cached blocks never run stale code
+    public void invalidateCode(int from, int to) {
+        blockCache.invalidateRange(from, to);
+        if (block != null && !block.valid) {
+            block = null;
+        }
+    }
+
+    // called by Io when the MBC switches ROM banks
+    public void romBankChanged() {
+        if (block != null && block.bank != 0) {
+            block = null;
+        }
+    }
+
+    public boolean isBlockCacheEnabled() {
+        return blockCacheEnabled;
+    }
+
+    public void setBlockCacheEnabled(boolean enabled) {
+        this.blockCacheEnabled = enabled;
+        this.block = null;
+    }
+
+    public BlockCache getBlockCache() {
+        return blockCache;
+    }
+
+    public static final int CYCLES_PER_FRAME = 70224; // 154 lines of 456 cycles
+
+    // run instructions back to back until at least budget cycles are spent, with
+    // no pacing; returns the cycles used, which can overshoot by one instruction
+    public long runCycles(long budget) {
+        if (running) {
+            throw new IllegalStateException("console " + id + " is running");
+        }
+        return execute(budget);
+    }
+
+    private long execute(long budget) {
+        long used = 0;
+        try {
+            bootIfPending();
+            applyButtons();
+            while (used < budget) {
+                long before = cycles;
+                step(budget - used);
+                used += cycles - before;
+            }
+        } catch (RuntimeException e) {
+            fault = String.format("%s at PC 0x%04X, cycle %d", e, PC, cycles);
+            throw e;
+        }
+        return used;
+    }
+
+    // the first instruction after construction or reset starts the boot
+    private void bootIfPending() {
+        if (bootPending) {
+            bootPending = false;
+            if (boot == Boot.FAST) {
+                skipBoot();
+            }
+        }
+    }
+
+    // PostBoot in place of the boot ROM. Memory goes through the bus like any
+    // other write, but as one burst, so with memory_service it is a few page
+    // loads and one commit per page instead of the boot ROM's seconds of them
+    private void skipBoot() {
+        Io.writeBurst(this, () -> PostBoot.install(addr -> read8(addr) & 0xFF, this::write8));
+        setAF(PostBoot.af(read8(0x014D)));
+        setBC(PostBoot.BC);
+        setDE(PostBoot.DE);
+        setHL(PostBoot.HL);
+        setSP(PostBoot.SP);
+        setPC(PostBoot.PC);
+        timing.setDivider(PostBoot.DIVIDER, cycles);
+        block = null;
+    }
+
+    // why the last run stopped on an exception (memory_service unreachable,
+    // an unimplemented opcode), null if it didn't; cleared by start() and reset()
+    public String getFault() {
+        return fault;
+    }
+
+    // run to the start of the next frame (LY back to 0)
+    public long runFrame() {
+        return runCycles(CYCLES_PER_FRAME - (cycles % CYCLES_PER_FRAME));
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getLateFrames() {
+        return lateFrames;
+    }
+
+    // frames that finished after their deadline
+    public long getDeadlineMisses() {
+        return deadlineMisses;
+    }
+
+    // host CPU time used by the console thread, and wall time since start()
+    public long getHostCpuNanos() {
+        return hostCpuNs;
+    }
+
+    public long getWallNanos() {
+        return wallNs;
     }
 
     private volatile boolean running = false;
+    private volatile String fault;
     private Thread cpuThread;
 
+    static final double CLOCK_HZ = 4_194_000; // 4.194 MHz
+    private static final double NS_PER_CYCLE = 1_000_000_000.0 / CLOCK_HZ;
+
+    // further behind than this and the lost time is dropped instead of caught up
+    static final int MAX_LAG_FRAMES = 5;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    // pacing stats for the console thread, reset by start()
+    private volatile long frames;
+    private volatile long lateFrames;
+    private volatile long deadlineMisses;
+    private volatile long hostCpuNs;
+    private volatile long wallNs;
+
+    private long startNs;
+    private ConsoleScheduler.Slot slot; // set while on the scheduler
+
+    // emulation speed as a multiple of CLOCK_HZ, 0 = uncapped (no pacing)
+    public static final double MAX_SPEED = 64;
+    private volatile double speed = 1.0;
+
+    // achieved speed, measured over windows of about a second
+    private static final long RATE_WINDOW_NS = 1_000_000_000L;
+    private long rateCycles;
+    private long rateStartNs;
+    private volatile double achievedMhz;
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public boolean isUncapped() {
+        return speed == 0;
+    }
+
+    // "uncapped", or a multiplier with an optional x suffix: 0.25, 1x, 2, 8x
+    public static double parseSpeed(String text) {
+        String s = text.trim().toLowerCase();
+        if ("uncapped".equals(s)) {
+            return 0;
+        }
+        if (s.endsWith("x")) {
+            s = s.substring(0, s.length() - 1);
+        }
+        double speed = Double.parseDouble(s);
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be positive or uncapped: " + text);
+        }
+        return speed;
+    }
+
+    public static String formatSpeed(double speed) {
+        return speed == 0 ? "uncapped" : String.format(Locale.ROOT, "%sx", speed);
+    }
+
+    // applies from the next frame, also while running
+    public void setSpeed(double speed) {
+        if (!(speed >= 0 && speed <= MAX_SPEED)) {
+            throw new IllegalArgumentException("speed must be 0 (uncapped) or up to " + MAX_SPEED + ", got " + speed);
+        }
+        this.speed = speed;
+        if (cpuThread != null) {
+            LockSupport.unpark(cpuThread);
+        }
+    }
+
+    public double getAchievedMhz() {
+        return achievedMhz;
+    }
+
+    private void frameDone(long used, long now) {
+        frames++;
+        rateCycles += used;
+        if (now - rateStartNs >= RATE_WINDOW_NS) {
+            achievedMhz = rateCycles * 1000.0 / (now - rateStartNs);
+            rateCycles = 0;
+            rateStartNs = now;
+        }
+        wallNs = now - startNs;
+    }
+
+    // wall time one frame should take at the current speed, 0 when uncapped
+    long frameNanos() {
+        double s = speed;
+        return s == 0 ? 0 : (long) (CYCLES_PER_FRAME * NS_PER_CYCLE / s);
+    }
+
+    // one ConsoleScheduler slice: run the rest of the current frame
+    void runScheduledFrame() {
+        long cpuBefore = THREADS.getCurrentThreadCpuTime();
+        long used = execute(CYCLES_PER_FRAME - (cycles % CYCLES_PER_FRAME));
+        hostCpuNs += THREADS.getCurrentThreadCpuTime() - cpuBefore;
+        frameDone(used, System.nanoTime());
+    }
+
+    void deadlineMissed() {
+        deadlineMisses++;
+    }
+
+    void frameDropped() {
+        lateFrames++;
+    }
+
+    // a frame threw, on the scheduler or the console's own thread; execute()
+    // has recorded the fault, so just stop (transport failures need no trace)
+    void stopFaulted(RuntimeException e) {
+        running = false;
+        System.out.printf("console %d stopped: %s\n", id, fault);
+        if (!(e instanceof UncheckedIOException)) {
+            e.printStackTrace();
+        }
+        System.out.flush();
+    }
+
+    // runs a frame at a time, then parks until that frame is due; deadlines
+    // come from the total cycles run, so oversleeping one frame shortens the next
     public void start() {
         if (running) return;
         running = true;
+        fault = null;
+
+        frames = 0;
+        lateFrames = 0;
+        deadlineMisses = 0;
+        hostCpuNs = 0;
+        wallNs = 0;
+        achievedMhz = 0;
+        rateCycles = 0;
+        startNs = System.nanoTime();
+        rateStartNs = startNs;
+
+        if (threadMode == ThreadMode.SCHEDULED) {
+            slot = ConsoleScheduler.get().add(this);
+            return;
+        }
 
-        final double CLOCK_HZ = 4_194_000; // 4.194 MHz
-        final double CYCLE_DURATION_NS = 1_000_000_000.0 / CLOCK_HZ;
-
-        cpuThread = new Thread(() -> {
-            long lastTime = System.nanoTime();
-            double leftoverNs = 0; // fractional nanoseconds carried over
+        Runnable loop = () -> {
+            long cpuStartNs = THREADS.getCurrentThreadCpuTime();
+            double deadline = startNs; // end of the last frame on the wall clock
+            double pacedAt = speed;
 
             try {
                 while (running) {
-                    int cyclesBefore = this.cycles;
-
-                    step_no_stdout(); // execute instruction
-                    //step();
-
-                    int cyclesAfter = this.cycles;
-                    int deltaCycles = cyclesAfter - cyclesBefore;
-
-                    double targetNs = deltaCycles * CYCLE_DURATION_NS;
-                    leftoverNs += targetNs;
+                    long used = execute(CYCLES_PER_FRAME - (cycles % CYCLES_PER_FRAME));
 
                     long now = System.nanoTime();
-                    long elapsed = now - lastTime;
+                    double s = speed;
+                    if (s != pacedAt) {
+                        // speed changed, pace from here on
+                        deadline = now;
+                        pacedAt = s;
+                    }
 
-                    if (leftoverNs > elapsed) {
-                        // wait if ahead of schedule
-                        while (System.nanoTime() - lastTime < leftoverNs) {
-                            // do nothing
+                    if (s == 0) {
+                        deadline = now;
+                    } else {
+                        deadline += used * NS_PER_CYCLE / s;
+                        if (now > deadline) {
+                            deadlineMisses++;
+                        }
+                        if (now - deadline > MAX_LAG_FRAMES * CYCLES_PER_FRAME * NS_PER_CYCLE / s) {
+                            // too slow or stalled on I/O, restart the schedule from now
+                            lateFrames++;
+                            deadline = now;
                         }
                     }
 
-                    lastTime = System.nanoTime();
-                    leftoverNs -= (System.nanoTime() - now); // subtract actual time spent
+                    long wait;
+                    while (running && speed == s && (wait = (long) deadline - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(this, wait);
+                    }
+
+                    hostCpuNs = THREADS.getCurrentThreadCpuTime() - cpuStartNs;
+                    frameDone(used, System.nanoTime());
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
-                System.out.flush();
-                running = false;
+            } catch (RuntimeException e) {
+                stopFaulted(e);
             }
-        });
+        };
 
-        cpuThread.setDaemon(true);
+        if (threadMode == ThreadMode.VIRTUAL) {
+            cpuThread = Thread.ofVirtual().name("cpu-" + id).unstarted(loop);
+        } else {
+            cpuThread = new Thread(loop, "cpu-" + id);
+            cpuThread.setDaemon(true);
+        }
         cpuThread.start();
     }
 
     public void halt() {
         running = false;
+        ConsoleScheduler.Slot s = slot;
+        if (s != null) {
+            slot = null;
+            ConsoleScheduler.get().remove(s);
+        }
         if (cpuThread != null) {
+            LockSupport.unpark(cpuThread);
             try {
                 cpuThread.join();
             } catch (InterruptedException e) {
@@ -221,153 +1030,247 @@ public class Cpu {
         return this.id;
     }
 
-    private static byte hi(short reg) {
-        return (byte)((reg >>> 8) & 0xFF);
+    public Engine getEngine() {
+        return this.engine;
     }
 
-    private static byte lo(short reg) {
-        return (byte)(reg & 0xFF);
+    public void setEngine(Engine engine) {
+        this.engine = engine;
     }
 
-    private static short combine(byte hi, byte lo) {
-        return (short)(((hi & 0xFF) << 8) | (lo & 0xFF));
+    public Boot getBoot() {
+        return this.boot;
+    }
+
+    // takes effect at the next reset, or the first run of a new console
+    public void setBoot(Boot boot) {
+        this.boot = boot;
+    }
+
+    public ThreadMode getThreadMode() {
+        return this.threadMode;
+    }
+
+    // takes effect on the next start()
+    public void setThreadMode(ThreadMode threadMode) {
+        this.threadMode = threadMode;
     }
 
     // AF pair
-    public short getAF() {
-        return SHORT((getA() << 8) | getF());
+    public int getAF() {
+        return (A << 8) | getF();
     }
-    
-    public void setAF(short v) {
-        this.AF = SHORT(v & 0xF0);
+
+    public void setAF(int v) {
+        this.A = (v >> 8) & 0xFF;
+        this.F = v & 0xF0;
+        this.flagOp = FLAGS_NONE;
     }
 
-    public byte getA() {
-        return hi(AF);
+    public int getA() {
+        return A;
     }
 
-    public void setA(byte v) {
-        byte f = getF();
-        AF = combine(v, f);
+    public void setA(int v) {
+        this.A = v & 0xFF;
     }
 
     // BC pair
-    public short getBC() {
-        return this.BC;
+    public int getBC() {
+        return (B << 8) | C;
     }
 
-    public void setBC(short v) {
-        this.BC = v;
+    public void setBC(int v) {
+        this.B = (v >> 8) & 0xFF;
+        this.C = v & 0xFF;
     }
 
-    public byte getB() {
-        return hi(BC);
+    public int getB() {
+        return B;
     }
 
-    public void setB(byte v) {
-        BC = combine(v, getC());
+    public void setB(int v) {
+        this.B = v & 0xFF;
     }
 
-    public byte getC() {
-        return lo(BC);
+    public int getC() {
+        return C;
     }
 
-    public void setC(byte v) {
-        BC = combine(getB(), v);
+    public void setC(int v) {
+        this.C = v & 0xFF;
     }
 
     // DE pair
-    public short getDE() {
-        return this.DE;
+    public int getDE() {
+        return (D << 8) | E;
     }
 
-    public void setDE(short v) {
-        this.DE = v;
+    public void setDE(int v) {
+        this.D = (v >> 8) & 0xFF;
+        this.E = v & 0xFF;
     }
 
-    public byte getD() {
-        return hi(DE);
+    public int getD() {
+        return D;
     }
 
-    public void setD(byte v) {
-        DE = combine(v, getE());
+    public void setD(int v) {
+        this.D = v & 0xFF;
     }
 
-    public byte getE() {
-        return lo(DE);
+    public int getE() {
+        return E;
     }
 
-    public void setE(byte v) {
-        DE = combine(getD(), v);
+    public void setE(int v) {
+        this.E = v & 0xFF;
     }
 
     // HL pair
-    public short getHL() {
-        return this.HL;
+    public int getHL() {
+        return (H << 8) | L;
     }
 
-    public void setHL(short v) {
-        this.HL = v;
+    public void setHL(int v) {
+        this.H = (v >> 8) & 0xFF;
+        this.L = v & 0xFF;
     }
 
-    public byte getH() {
-        return hi(HL);
+    public int getH() {
+        return H;
     }
 
-    public void setH(byte v) {
-        HL = combine(v, getL());
+    public void setH(int v) {
+        this.H = v & 0xFF;
     }
 
-    public byte getL() {
-        return lo(HL);
+    public int getL() {
+        return L;
     }
 
-    public void setL(byte v) {
-        HL = combine(getH(), v);
+    public void setL(int v) {
+        this.L = v & 0xFF;
     }
 
     // SP, PC (full 16-bit)
-    public short getSP() {
+    public int getSP() {
         return SP;
     }
 
-    public void setSP(short sp) {
-        this.SP = sp;
+    public void setSP(int sp) {
+        this.SP = sp & 0xFFFF;
     }
 
-    public short getPC() {
+    public int getPC() {
         return PC;
     }
 
-    public void setPC(short pc) {
-        this.PC = pc;
+    public void setPC(int pc) {
+        this.PC = pc & 0xFFFF;
     }
 
     // flags
-    public byte getF() {
-        return (byte)(AF & 0xF0);
+    public int getF() {
+        if (flagOp != FLAGS_NONE) {
+            materializeFlags();
+        }
+        return F;
+    }
+
+    // set all four flags at once, e.g. from an Alu table entry
+    public void setFlags(int f) {
+        F = f & 0xF0;
+        flagOp = FLAGS_NONE;
     }
 
-    private void setF(byte v) {
-        v &= 0xF0; // bottom 4 bits always zero on Game Boy
-        AF = (short)(((getA() & 0xFF) << 8) | (v & 0xF0));
+    // set Z, N and H, keeping C (INC/DEC)
+    public void setFlagsKeepCarry(int f) {
+        F = (f & 0xE0) | (isC() ? FLAG_C : 0);
+        flagOp = FLAGS_NONE;
     }
 
     private void setFlag(int mask) {
-        setF((byte)(getF() | mask));
+        F = getF() | mask;
     }
 
     private void clearFlag(int mask) {
-        setF((byte)(getF() & ~mask));
+        F = getF() & ~mask;
     }
 
     private boolean isFlagSet(int mask) {
         return (getF() & mask) != 0;
     }
 
-    // Z flag
+    // build F from the last recorded op
+    private void materializeFlags() {
+        switch (flagOp) {
+            case FLAGS_AND:
+                F = (flagResult == 0 ? FLAG_Z : 0) | FLAG_H;
+                break;
+            case FLAGS_OR:
+                F = flagResult == 0 ? FLAG_Z : 0;
+                break;
+            case FLAGS_ADD16:
+                F = (F & FLAG_Z) | (((flagA ^ flagB ^ flagResult) & 0x1000) >> 7) | ((flagResult >> 12) & FLAG_C);
+                break;
+            case FLAGS_ROTATE_LEFT:
+                F = (flagResult >> 4) & FLAG_C;
+                break;
+            case FLAGS_ROTATE_RIGHT:
+                F = (flagA & 0x01) << 4;
+                break;
+            case FLAGS_SHIFT_LEFT:
+                F = ((flagResult & 0xFF) == 0 ? FLAG_Z : 0) | ((flagResult >> 4) & FLAG_C);
+                break;
+            case FLAGS_SHIFT_RIGHT:
+                F = ((flagResult & 0xFF) == 0 ? FLAG_Z : 0) | ((flagA & 0x01) << 4);
+                break;
+        }
+        flagOp = FLAGS_NONE;
+    }
+
+    // AND/OR/XOR/SWAP: Z from result, H set for AND, N and C cleared
+    public void flagsLogic(int result, boolean halfCarry) {
+        flagOp = halfCarry ? FLAGS_AND : FLAGS_OR;
+        flagResult = result;
+    }
+
+    // ADD HL, rr: result is the unmasked hl + rr, Z is kept
+    public void flagsAdd16(int hl, int rr, int result) {
+        F = isZ() ? FLAG_Z : 0;
+        flagOp = FLAGS_ADD16;
+        flagA = hl;
+        flagB = rr;
+        flagResult = result;
+    }
+
+    // RLCA/RRCA/RLA/RRA: v is the old A, result the unmasked rotate; Z is cleared
+    public void flagsRotateA(int v, int result, boolean left) {
+        flagOp = left ? FLAGS_ROTATE_LEFT : FLAGS_ROTATE_RIGHT;
+        flagA = v;
+        flagResult = result;
+    }
+
+    // CB rotates and shifts other than SWAP: as flagsRotateA, with Z from result
+    public void flagsShift(int v, int result, boolean left) {
+        flagOp = left ? FLAGS_SHIFT_LEFT : FLAGS_SHIFT_RIGHT;
+        flagA = v;
+        flagResult = result;
+    }
+
+    // Z flag; conditional jumps read it straight from the recorded result
     public boolean isZ() {
-        return isFlagSet(FLAG_Z);
+        switch (flagOp) {
+            case FLAGS_NONE:
+            case FLAGS_ADD16:
+                return (F & FLAG_Z) != 0;
+            case FLAGS_ROTATE_LEFT:
+            case FLAGS_ROTATE_RIGHT:
+                return false;
+            default:
+                return (flagResult & 0xFF) == 0;
+        }
     }
 
     public void setZ() {
@@ -430,7 +1333,20 @@ public class Cpu {
 
     // C flag
     public boolean isC() {
-        return isFlagSet(FLAG_C);
+        switch (flagOp) {
+            case FLAGS_NONE:
+                return (F & FLAG_C) != 0;
+            case FLAGS_AND:
+            case FLAGS_OR:
+                return false;
+            case FLAGS_ADD16:
+                return (flagResult & 0x10000) != 0;
+            case FLAGS_ROTATE_LEFT:
+            case FLAGS_SHIFT_LEFT:
+                return (flagResult & 0x100) != 0;
+            default:
+                return (flagA & 0x01) != 0;
+        }
     }
 
     public void setCFlag() {
@@ -449,48 +1365,30 @@ public class Cpu {
         }
     }
     
-    // dispatch table
-    public void setIns(int opcode, Instruction ins) {
-        table[opcode & 0xFF] = ins;
-    }
-
-    public void setCBIns(int opcode, Instruction ins) {
-        cbTable[opcode & 0xFF] = ins;
-    }
-
+    // dispatch table (shared by all instances, see InstructionDecoder)
     public Instruction getIns(int opcode) {
-        return table[opcode & 0xFF];
+        return InstructionDecoder.getIns(opcode);
     }
 
     public Instruction getCBIns(int opcode) {
-        return cbTable[opcode & 0xFF];
+        return InstructionDecoder.getCBIns(opcode);
     }
     
-    // IO
+    // IO; nothing on the bus throws checked exceptions. A memory_service
+    // failure comes out as an UncheckedIOException, which stops the run and
+    // leaves the console faulted instead of reading as 0
     public byte read8(int addr) {
-        try {
-            return Io.read8(this, addr);
-        } catch (Exception e) {
-            System.out.println(e);
-            return 0;
-        }
+        return Io.read8(this, addr);
     }
 
-    public void write8(int addr, byte v) {
-        try {
-            Io.write8(this, addr, v);
-        } catch (Exception e) {
-            System.out.println(e);
-        }
+    public void write8(int addr, int v) {
+        Io.write8(this, addr, (byte) v);
     }
 
-    public void write16(int addr, short v) {
-        try {
-            Io.write8(this, addr, (byte) ((v >> 8) & 0xFF));
-            Io.write8(this, addr, (byte) ((v) & 0xFF));
-        } catch (Exception e) {
-            System.out.println(e);
-        }
+    // little-endian, low byte first
+    public void write16(int addr, int v) {
+        Io.write8(this, addr, (byte) v);
+        Io.write8(this, (addr + 1) & 0xFFFF, (byte) (v >> 8));
     }
     
     public void enableInterrupts() {
@@ -508,46 +1406,39 @@ public class Cpu {
         this.interruptsEnabled = false;
     }
     
-    public byte pop8() throws Exception {
-        short sp = getSP();
-        byte value = read8(sp);
-        setSP(SHORT(sp + 1));
+    public byte pop8() {
+        byte value = read8(SP);
+        SP = (SP + 1) & 0xFFFF;
         return value;
     }
 
-    public void push8(byte value) throws Exception {
-        short sp = SHORT(getSP() - 1);
-        write8(sp, value);
-        setSP(sp);
+    public void push8(int value) {
+        SP = (SP - 1) & 0xFFFF;
+        write8(SP, value);
     }
 
-    public short pop16() throws Exception {
-        byte low = pop8();
-        byte high = pop8();
+    public int pop16() {
+        int low = pop8() & 0xFF;
+        int high = pop8() & 0xFF;
 
-        return SHORT((high << 8) | (low));
+        return (high << 8) | low;
     }
 
-    public void push16(short value) throws Exception {
-        byte high = BYTE(value >> 8);
-        byte low  = BYTE(value);
-
-        push8(high);
-        push8(low);
+    public void push16(int value) {
+        push8(value >> 8);
+        push8(value);
     }
     
-    public int getCycles() {
+    public long getCycles() {
         return this.cycles;
     }
     
-    private void handleInterrupts() throws Exception {
+    private void handleInterrupts() {
         if (!interruptsEnabled) {
             return;
         }
 
-        byte ie = getIE();
-        byte flag = getIF();
-        byte fired = (byte)(ie & flag);
+        int fired = IE & IF & 0x1F;
 
         if (fired == 0) {
             return; // no interrupt to service
@@ -557,44 +1448,50 @@ public class Cpu {
         push16(PC); // push PC onto stack
 
         //if (fired > 0) {
-        //    System.out.printf("handling interrupts (ie=%02X, flag=%02X, fired=%02X)\n", ie & 0xFF, flag & 0xFF, fired & 0xFF);
+        //    System.out.printf("handling interrupts (ie=%02X, flag=%02X, fired=%02X)\n", IE, IF, fired);
         //}
 
         // service interrupts in order: V-Blank -> Joypad
         if ((fired & 0x01) != 0) { // V-Blank
             PC = 0x40;
-            setIF((byte)(flag & ~0x01));
+            IF &= ~0x01;
             //System.out.printf("VBLANK INT FIRED!!!!!!! NEW PC = 0x%04X\n", PC & 0xFFFF);
         } else if ((fired & 0x02) != 0) { // LCD STAT
             PC = 0x48;
-            setIF((byte)(flag & ~0x02));
+            IF &= ~0x02;
         } else if ((fired & 0x04) != 0) { // Timer
             PC = 0x50;
-            setIF((byte)(flag & ~0x04));
+            IF &= ~0x04;
         } else if ((fired & 0x08) != 0) { // Serial
             PC = 0x58;
-            setIF((byte)(flag & ~0x08));
+            IF &= ~0x08;
         } else if ((fired & 0x10) != 0) { // Joypad
             PC = 0x60;
-            setIF((byte)(flag & ~0x10));
+            IF &= ~0x10;
         }
     }
 
 
+    // also the bus hooks for FF0F and FFFF
     public byte getIF() {
-        return read8(0xFF0F);
+        return (byte) IF;
     }
 
     public void setIF(byte value) {
-        write8(0xFF0F, value);
+        IF = value & 0xFF;
     }
 
     public byte getIE() {
-        return read8(0xFFFF);
+        return (byte) IE;
     }
 
     public void setIE(byte value) {
-        write8(0xFFFF, value);
+        IE = value & 0xFF;
+    }
+
+    // set a request bit in IF (0x01 V-Blank ... 0x10 joypad)
+    public void requestInterrupt(int bit) {
+        IF |= bit;
     }
 
 }
\ No newline at end of file
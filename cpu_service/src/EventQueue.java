@@ -0,0 +1,102 @@
+// min-heap of pending events ordered by absolute cycle, at most one pending
+// event per id; everything is preallocated, so scheduling never allocates
+public final class EventQueue {
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private final long[] at;  // cycle of each id, NEVER when not scheduled
+    private final int[] heap; // scheduled ids, heap-ordered by at[]
+    private final int[] pos;  // index of each id in heap, -1 when not scheduled
+    private int size;
+
+    public EventQueue(int ids) {
+        at = new long[ids];
+        heap = new int[ids];
+        pos = new int[ids];
+        for (int id = 0; id < ids; id++) {
+            at[id] = NEVER;
+            pos[id] = -1;
+        }
+    }
+
+    // cycle of the earliest event, NEVER if there is none
+    public long nextCycle() {
+        return size == 0 ? NEVER : at[heap[0]];
+    }
+
+    // id of the earliest event, only valid when nextCycle() != NEVER
+    public int peek() {
+        return heap[0];
+    }
+
+    public long cycleOf(int id) {
+        return at[id];
+    }
+
+    // add the event, or move it if it is already pending
+    public void schedule(int id, long cycle) {
+        int i = pos[id];
+        at[id] = cycle;
+        if (i < 0) {
+            i = size++;
+            heap[i] = id;
+            pos[id] = i;
+            up(i);
+        } else {
+            up(i);
+            down(pos[id]);
+        }
+    }
+
+    public void cancel(int id) {
+        int i = pos[id];
+        if (i < 0) {
+            return;
+        }
+        at[id] = NEVER;
+        pos[id] = -1;
+
+        int last = heap[--size];
+        if (i < size) {
+            heap[i] = last;
+            pos[last] = i;
+            up(i);
+            down(pos[last]);
+        }
+    }
+
+    private void up(int i) {
+        int id = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (at[heap[parent]] <= at[id]) {
+                break;
+            }
+            heap[i] = heap[parent];
+            pos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    private void down(int i) {
+        int id = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && at[heap[child + 1]] < at[heap[child]]) {
+                child++;
+            }
+            if (at[id] <= at[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+}
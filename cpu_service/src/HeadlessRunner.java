@@ -0,0 +1,313 @@
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+
+// runs a ROM straight from disk with no memory_service or HTTP, for capacity
+// planning and performance regression checks:
+//
+//   java -cp build HeadlessRunner --rom game.gb [--frames N | --cycles N]
+//        [--input "60:start 70: 300:a,right 310:"] [--engine table|switch|tiered]
+//        [--batch N [--stagger F]] [--boot fast|full]
+//
+// input is a list of frame:buttons steps (buttons comma-separated from
+// right left up down a b select start, empty to release), or @file with one
+// step per line and # comments; each step holds until the next one.
+//
+// --batch runs N copies in a LockstepBatch instead of one Cpu, a whole frame
+// at a time; --stagger delays instance k's input by k * F frames so the
+// copies diverge the way independent players would.
+//
+// --boot full runs the boot ROM first, as the service does by default; fast
+// (the default here) starts at 0x0100 from PostBoot. Either way the run
+// reports how long it took to get to the cartridge's first frame, the first
+// VBlank after the boot ROM unmaps itself
+public class HeadlessRunner {
+    private static final long DEFAULT_FRAMES = 600;
+
+    public static void main(String[] args) throws Exception {
+        String rom = null;
+        long frames = -1;
+        long cycles = -1;
+        String input = null;
+        Cpu.Engine engine = null;
+        int batch = 0;
+        long stagger = 0;
+        Cpu.Boot boot = Cpu.Boot.FAST;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--rom":
+                    rom = value;
+                    break;
+                case "--frames":
+                    frames = Long.parseLong(value);
+                    break;
+                case "--cycles":
+                    cycles = Long.parseLong(value);
+                    break;
+                case "--input":
+                    input = value;
+                    break;
+                case "--engine":
+                    engine = Cpu.Engine.parse(value);
+                    break;
+                case "--batch":
+                    batch = Integer.parseInt(value);
+                    break;
+                case "--stagger":
+                    stagger = Long.parseLong(value);
+                    break;
+                case "--boot":
+                    boot = Cpu.Boot.parse(value);
+                    break;
+                default:
+                    usage("unknown option " + arg);
+            }
+        }
+        if (rom == null) {
+            usage("--rom is required");
+        }
+        if (cycles < 0) {
+            cycles = (frames < 0 ? DEFAULT_FRAMES : frames) * Cpu.CYCLES_PER_FRAME;
+        }
+
+        TreeMap<Long, Integer> script = parseInput(input);
+
+        byte[] bytes = Files.readAllBytes(Paths.get(rom));
+        if (bytes.length > 0x8000) {
+            System.out.printf("warning: %d KB ROM, only banks 0-1 are mapped (no MBC banking yet)%n", bytes.length / 1024);
+        }
+        byte[] image = new byte[0x10000];
+        System.arraycopy(bytes, 0, image, 0, Math.min(bytes.length, 0x8000));
+
+        if (batch > 0) {
+            runBatch(rom, image, batch, stagger, boot, cycles, script);
+            return;
+        }
+
+        Cpu cpu = new Cpu(0);
+        if (engine != null) {
+            cpu.setEngine(engine);
+        }
+        cpu.setBoot(boot);
+        Io.loadImage(cpu, image);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        // a frame at a time so input steps land on frame boundaries, and a line
+        // at a time until the first frame so LY can be watched for it
+        long used = 0;
+        long applied = -1;
+        boolean handedOver = false;
+        boolean drawing = false;
+        long firstFrame = -1;
+        long firstFrameNs = 0;
+        while (used < cycles) {
+            Map.Entry<Long, Integer> step = script.floorEntry(cpu.getCycles() / Cpu.CYCLES_PER_FRAME);
+            if (step != null && step.getKey() != applied) {
+                cpu.setButtons(step.getValue());
+                applied = step.getKey();
+            }
+            long toFrameEnd = Cpu.CYCLES_PER_FRAME - (cpu.getCycles() % Cpu.CYCLES_PER_FRAME);
+            long chunk = firstFrame < 0 ? Math.min(toFrameEnd, Timing.LINE_CYCLES) : toFrameEnd;
+            used += cpu.runCycles(Math.min(chunk, cycles - used));
+
+            if (firstFrame < 0) {
+                handedOver = handedOver || (cpu.read8(0xFF50) & 0xFF) != 0;
+                if (handedOver && cpu.getTiming().getLY() < Timing.VBLANK_LINE) {
+                    drawing = true;
+                } else if (drawing) {
+                    firstFrame = cpu.getCycles();
+                    firstFrameNs = System.nanoTime() - start;
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf(Locale.ROOT, "rom        %s%n", rom);
+        System.out.printf(Locale.ROOT, "engine     %s%n", cpu.getEngine().name().toLowerCase());
+        System.out.printf(Locale.ROOT, "boot       %s%n", boot.name().toLowerCase());
+        System.out.printf(Locale.ROOT, "cycles     %d (%.1f frames)%n", used, used / (double) Cpu.CYCLES_PER_FRAME);
+        System.out.printf(Locale.ROOT, "wall       %.3f s%n", seconds);
+        System.out.printf(Locale.ROOT, "speed      %.2f MHz emulated (%.1fx real time)%n", used / seconds / 1e6, used / seconds / Cpu.CLOCK_HZ);
+        System.out.printf(Locale.ROOT, "fps        %.1f%n", used / (double) Cpu.CYCLES_PER_FRAME / seconds);
+        System.out.printf(Locale.ROOT, "allocated  %.2f MB/s (%d bytes)%n", allocated / seconds / 1e6, allocated);
+        if (firstFrame < 0) {
+            System.out.printf(Locale.ROOT, "startup    no frame from the cartridge yet%n");
+        } else {
+            System.out.printf(Locale.ROOT, "startup    first frame at %.1f ms emulated, %.1f ms wall%n",
+                firstFrame * 1000.0 / Cpu.CLOCK_HZ, firstFrameNs / 1e6);
+        }
+        System.out.printf(Locale.ROOT, "state      %s  PC=%04X SP=%04X AF=%04X BC=%04X DE=%04X HL=%04X%n",
+            stateHash(cpu), cpu.getPC(), cpu.getSP(), cpu.getAF(), cpu.getBC(), cpu.getDE(), cpu.getHL());
+    }
+
+    private static void runBatch(String rom, byte[] image, int size, long stagger, Cpu.Boot boot, long cycles,
+                                 TreeMap<Long, Integer> script) throws Exception {
+        LockstepBatch batch = new LockstepBatch(size, image);
+        if (boot == Cpu.Boot.FAST) {
+            batch.skipBoot();
+        }
+        long frames = (cycles + Cpu.CYCLES_PER_FRAME - 1) / Cpu.CYCLES_PER_FRAME;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        // whole frames only, so the first frame is taken as the first one run
+        // after every instance had handed over: exact with fast boot, at most
+        // a frame late with the boot ROM
+        long used = 0;
+        long handedOverAt = handedOver(batch) ? 0 : -1;
+        long firstFrame = -1;
+        long firstFrameNs = 0;
+        for (long frame = 0; frame < frames; frame++) {
+            for (int k = 0; k < size; k++) {
+                Map.Entry<Long, Integer> step = script.floorEntry(frame - k * stagger);
+                if (step != null && step.getKey() == frame - k * stagger) {
+                    batch.setButtons(k, step.getValue());
+                }
+            }
+            used += batch.runFrame();
+
+            if (firstFrame >= 0) {
+                continue;
+            }
+            if (handedOverAt >= 0) {
+                firstFrame = frame + 1;
+                firstFrameNs = System.nanoTime() - start;
+            } else if (handedOver(batch)) {
+                handedOverAt = frame + 1;
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        TreeMap<String, Integer> states = new TreeMap<>();
+        int faulted = 0;
+        for (int k = 0; k < size; k++) {
+            states.merge(stateHash(batch, k), 1, Integer::sum);
+            if (batch.getFault(k) != null) {
+                faulted++;
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "rom        %s%n", rom);
+        System.out.printf(Locale.ROOT, "engine     lockstep batch of %d%n", size);
+        System.out.printf(Locale.ROOT, "boot       %s%n", boot.name().toLowerCase());
+        System.out.printf(Locale.ROOT, "cycles     %d (%.1f frames per instance)%n", used, used / (double) size / Cpu.CYCLES_PER_FRAME);
+        System.out.printf(Locale.ROOT, "wall       %.3f s%n", seconds);
+        System.out.printf(Locale.ROOT, "speed      %.2f MHz emulated in total (%.1f instances at real time)%n", used / seconds / 1e6, used / seconds / Cpu.CLOCK_HZ);
+        System.out.printf(Locale.ROOT, "fps        %.1f in total%n", used / (double) Cpu.CYCLES_PER_FRAME / seconds);
+        System.out.printf(Locale.ROOT, "allocated  %.2f MB/s (%d bytes)%n", allocated / seconds / 1e6, allocated);
+        System.out.printf(Locale.ROOT, "lockstep   %.1f instances per dispatch%n", batch.getLockstepWidth());
+        if (firstFrame < 0) {
+            System.out.printf(Locale.ROOT, "startup    no frame from every cartridge yet%n");
+        } else {
+            System.out.printf(Locale.ROOT, "startup    first frame by %.1f ms emulated (frame %d), %.1f ms wall%n",
+                firstFrame * Cpu.CYCLES_PER_FRAME * 1000.0 / Cpu.CLOCK_HZ, firstFrame, firstFrameNs / 1e6);
+        }
+        System.out.printf(Locale.ROOT, "states     %d distinct, %d faulted%n", states.size(), faulted);
+        System.out.printf(Locale.ROOT, "state      %s  PC=%04X SP=%04X AF=%04X BC=%04X DE=%04X HL=%04X (instance 0)%n",
+            stateHash(batch, 0), batch.getPC(0), batch.getSP(0), batch.getAF(0), batch.getBC(0), batch.getDE(0), batch.getHL(0));
+    }
+
+    // every instance has the boot ROM unmapped
+    private static boolean handedOver(LockstepBatch batch) {
+        for (int k = 0; k < batch.size(); k++) {
+            if ((batch.read8(k, 0xFF50) & 0xFF) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // registers, cycle count and 0x8000-0xFFFF; equal hashes mean equal runs
+    static String stateHash(Cpu cpu) throws Exception {
+        return stateHash(cpu.getAF(), cpu.getBC(), cpu.getDE(), cpu.getHL(), cpu.getSP(), cpu.getPC(),
+            cpu.getCycles(), cpu::read8);
+    }
+
+    static String stateHash(LockstepBatch batch, int k) throws Exception {
+        return stateHash(batch.getAF(k), batch.getBC(k), batch.getDE(k), batch.getHL(k), batch.getSP(k), batch.getPC(k),
+            batch.getCycles(k), addr -> batch.read8(k, addr));
+    }
+
+    private static String stateHash(int af, int bc, int de, int hl, int sp, int pc, long cycles,
+                                    IntUnaryOperator read8) throws Exception {
+        ByteBuffer state = ByteBuffer.allocate(8 * 2 + 8 + 0x8000);
+        state.putShort((short) af).putShort((short) bc).putShort((short) de)
+            .putShort((short) hl).putShort((short) sp).putShort((short) pc)
+            .putShort((short) 0).putShort((short) 0);
+        state.putLong(cycles);
+        for (int addr = 0x8000; addr < 0x10000; addr++) {
+            state.put((byte) read8.applyAsInt(addr));
+        }
+
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(state.array());
+        StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            hex.append(String.format("%02x", digest[i]));
+        }
+        return hex.toString();
+    }
+
+    // frame -> pressed button mask
+    static TreeMap<Long, Integer> parseInput(String input) throws Exception {
+        TreeMap<Long, Integer> script = new TreeMap<>();
+        if (input == null) {
+            return script;
+        }
+        if (input.startsWith("@")) {
+            input = new String(Files.readAllBytes(Paths.get(input.substring(1))));
+        }
+
+        // # starts a comment that runs to the end of the line
+        for (String step : input.replaceAll("#[^\n]*", "").trim().split("[\\s;]+")) {
+            if (step.isEmpty()) {
+                continue;
+            }
+            int colon = step.indexOf(':');
+            if (colon < 0) {
+                usage("input step without frame: " + step);
+            }
+            long frame = Long.parseLong(step.substring(0, colon));
+            int mask = 0;
+            for (String name : step.substring(colon + 1).split(",")) {
+                if (name.isEmpty()) {
+                    continue;
+                }
+                int bit = Arrays.asList(Cpu.BUTTONS).indexOf(name.toLowerCase());
+                if (bit < 0) {
+                    usage("unknown button " + name);
+                }
+                mask |= 1 << bit;
+            }
+            script.put(frame, mask);
+        }
+        return script;
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("usage: HeadlessRunner --rom <file> [--frames N | --cycles N] [--input \"frame:buttons ...\" | --input @file] [--engine table|switch|tiered] [--batch N [--stagger F]] [--boot fast|full]");
+        System.exit(2);
+    }
+}
@@ -1,5 +1,5 @@
 public interface Instruction {
-    void execute(Cpu cpu) throws Exception;
+    void execute(Cpu cpu);
 
     default String name() {
         return "UNKNOWN";
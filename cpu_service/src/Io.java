@@ -1,18 +1,26 @@
 import java.io.*;
 import java.net.*;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Io {
-    private static final String URI = "http://memory_service:8080";
+    private static final String URI =
+        System.getenv("MEMORY_SERVICE_URI") != null ? System.getenv("MEMORY_SERVICE_URI") : "http://memory_service:8080";
     private static final int PAGE_SIZE = 0x1000;
 
+    // a memory_service that stops answering faults the console instead of hanging it
+    private static final int TIMEOUT_MS =
+        System.getenv("MEMORY_SERVICE_TIMEOUT_MS") != null ? Integer.parseInt(System.getenv("MEMORY_SERVICE_TIMEOUT_MS")) : 5000;
+
     // maintain 4KB pages and track writes (god what am i doing)
-    private static final Map<Cpu, CpuMemory> cpuCache = new HashMap<>();
+    // concurrent: every console thread looks itself up here; page loads and
+    // commits block on plain socket I/O outside any monitor, so a console on a
+    // virtual thread unmounts instead of pinning its carrier
+    private static final Map<Cpu, CpuMemory> cpuCache = new ConcurrentHashMap<>();
 
     // BIOS data
-    private static final byte[] BIOS = {
+    static final byte[] BIOS = {
         (byte)0x31, (byte)0xfe, (byte)0xff, (byte)0xaf, (byte)0x21, (byte)0xff, (byte)0x9f, (byte)0x32, 
         (byte)0xcb, (byte)0x7c, (byte)0x20, (byte)0xfb, (byte)0x21, (byte)0x26, (byte)0xff, (byte)0x0e, 
         (byte)0x11, (byte)0x3e, (byte)0x80, (byte)0x32, (byte)0xe2, (byte)0x0c, (byte)0x3e, (byte)0xf3,
@@ -53,7 +61,7 @@ public class Io {
     }
 
     // read a single byte
-    public static byte read8(Cpu cpu, int addr) throws IOException {
+    public static byte read8(Cpu cpu, int addr) {
         CpuMemory mem = getCpuMemory(cpu);
 
         if ((addr & 0xFFFF) >= 0xFF00) {
@@ -73,16 +81,21 @@ public class Io {
             return BIOS[addr & 0xFF];
         }
 
-        // load the page if not present
-        if (mem.pages[pageIndex] == null) {
-            mem.loadPage(cpu, pageIndex);
-        }
-
-        return mem.pages[pageIndex][offset];
+        return mem.page(cpu, pageIndex)[offset];
     }
 
     // write a single byte
-    public static void write8(Cpu cpu, int addr, byte value) throws IOException {
+    public static void write8(Cpu cpu, int addr, byte value) {
+        // interrupt registers are held by the Cpu and never reach memory_service
+        if ((addr & 0xFFFF) == 0xFF0F) {
+            cpu.setIF(value);
+            return;
+        }
+        if ((addr & 0xFFFF) == 0xFFFF) {
+            cpu.setIE(value);
+            return;
+        }
+
         CpuMemory mem = getCpuMemory(cpu);
 
         if ((addr & 0xFFFF) >= 0xFF00) {
@@ -93,6 +106,15 @@ public class Io {
             System.out.printf("Writing %d to BIOS map register\n", value & 0xFF);
         }
 
+        if ((addr & 0xFFFF) >= 0x2000 && (addr & 0xFFFF) < 0x4000) {
+            // MBC ROM bank select; only latched for now (no banked ROM in memory_service yet),
+            // but cached code is keyed by it
+            int bank = value & 0x7F;
+            mem.romBank = bank == 0 ? 1 : bank;
+            cpu.romBankChanged();
+            return;
+        }
+
         if ((addr & 0xFFFF) >= 0x0000 & (addr & 0xFFFF) < 0x7FFF) {
             System.out.printf("Illegal write at address 0x%04X\n", addr & 0xFFFF);
             return;
@@ -101,48 +123,74 @@ public class Io {
         int pageIndex = (addr & 0xFFFF) / PAGE_SIZE;
         int offset = (addr & 0xFFFF) % PAGE_SIZE;
 
-        if (mem.pages[pageIndex] == null) {
-            mem.loadPage(cpu, pageIndex);
+        mem.page(cpu, pageIndex)[offset] = value;
+
+        // drop decoded code covering the write (boot ROM unmapping replaces 0x0000-0x00FF)
+        if ((addr & 0xFFFF) == 0xFF50) {
+            cpu.invalidateCode(0x0000, 0x0100);
+        }
+        cpu.invalidateCode(addr & 0xFFFF, (addr & 0xFFFF) + 1);
+
+        // timer and serial registers reschedule their events
+        if ((addr & 0xFFFF) >= 0xFF00) {
+            cpu.getTiming().written(addr & 0xFFFF, value & 0xFF, cpu.getCycles());
         }
 
-        mem.pages[pageIndex][offset] = value;
         if (!mem.dirty[pageIndex]) {
             mem.dirty[pageIndex] = true;
-            mem.commitPage(cpu, pageIndex);
+            if (!mem.holdCommits) {
+                try {
+                    mem.commitPage(cpu, pageIndex);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
     }
 
-    // dynamically calculate IO registers based on cpu cycles
-    private static byte readIORegister(Cpu cpu, int addr, CpuMemory mem) throws IOException {
-        int cycles = cpu.getCycles();
-        int cyclesInFrame = cycles % 70224; // number of cycles in a frame
-        int ly = cyclesInFrame / 456;       // current line (0-153)
+    // run a burst of writes (PostBoot's VRAM and I/O registers) with commits
+    // held back, then commit each page it touched once instead of once per write
+    public static void writeBurst(Cpu cpu, Runnable writes) {
+        CpuMemory mem = getCpuMemory(cpu);
+        mem.holdCommits = true;
+        try {
+            writes.run();
+        } finally {
+            mem.holdCommits = false;
+        }
+        try {
+            commitAll(cpu);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // clock-driven IO registers come from the console's Timing state
+    private static byte readIORegister(Cpu cpu, int addr, CpuMemory mem) {
+        Timing timing = cpu.getTiming();
+        int ly = timing.getLY(); // current line (0-153)
 
         int pageIndex = (addr & 0xFFFF) / PAGE_SIZE;
         int offset = (addr & 0xFFFF) % PAGE_SIZE;
 
         switch (addr & 0xFFFF) {
+            // P1, the game writes the select bits and reads back the buttons
+            case 0xFF00:
+                int select = mem.page(cpu, pageIndex)[offset] & 0x30;
+                return (byte) (0xC0 | select | cpu.joypadLines(select));
             case 0xFF0F:
+                return cpu.getIF();
             case 0xFFFF:
-                if (mem.pages[pageIndex] == null) mem.loadPage(cpu, pageIndex);
-                return mem.pages[pageIndex][offset];
+                return cpu.getIE();
             // DIV
             case 0xFF04:
-                int div = (cycles / 256) & 0xFF;
-                return (byte)div;
+                return (byte) timing.readDIV(cpu.getCycles());
+            // TIMA
+            case 0xFF05:
+                return (byte) timing.readTIMA(cpu.getCycles());
             // LCD
             case 0xFF41: // STAT
-                int cycleInLine = cyclesInFrame % 456;
-                int mode;
-                if (ly >= 144) {
-                    mode = 1; // V-Blank
-                } else if (cycleInLine < 80) {
-                    mode = 2; // OAM
-                } else if (cycleInLine < 80 + 172) {
-                    mode = 3; // Pixel Transfer
-                } else {
-                    mode = 0; // H-Blank
-                }
+                int mode = timing.getMode();
 
                 // read stored STAT bits
                 byte statStored = (mem.pages[pageIndex] != null) ? mem.pages[pageIndex][offset] : 0;
@@ -170,16 +218,32 @@ public class Io {
             case 0xFF4A: // WY
             case 0xFF4B: // WX
                 // Return stored values for all other LCD registers
-                if (mem.pages[pageIndex] == null) mem.loadPage(cpu, pageIndex);
-                return mem.pages[pageIndex][offset];
+                return mem.page(cpu, pageIndex)[offset];
 
             default:
                 // For any other address > 0xFF00 just read from memory
-                if (mem.pages[pageIndex] == null) mem.loadPage(cpu, pageIndex);
-                return mem.pages[pageIndex][offset];
+                return mem.page(cpu, pageIndex)[offset];
         }
     }
 
+    // currently selected ROM bank for 0x4000-0x7FFF
+    public static int romBank(Cpu cpu) {
+        return getCpuMemory(cpu).romBank;
+    }
+
+    // install a full 64KB memory image for a CPU (benchmarks, offline runs)
+    // pages are then served locally and never committed to memory_service
+    public static void loadImage(Cpu cpu, byte[] image) {
+        CpuMemory mem = getCpuMemory(cpu);
+        mem.local = true;
+        for (int i = 0; i < mem.pages.length; i++) {
+            mem.pages[i] = Arrays.copyOfRange(image, i * PAGE_SIZE, (i + 1) * PAGE_SIZE);
+            mem.dirty[i] = false;
+        }
+        cpu.setIF(image[0xFF0F]);
+        cpu.setIE(image[0xFFFF]);
+    }
+
     // commit all pages synchronously
     public static void commitAll(Cpu cpu) throws IOException {
         CpuMemory mem = getCpuMemory(cpu);
@@ -194,6 +258,23 @@ public class Io {
     private static class CpuMemory {
         private final byte[][] pages = new byte[0x10000 / PAGE_SIZE][];
         private final boolean[] dirty = new boolean[0x10000 / PAGE_SIZE];
+        private boolean local = false;
+        private boolean holdCommits = false; // inside writeBurst
+        private int romBank = 1;
+
+        // the page, loaded from memory_service if it isn't here yet
+        byte[] page(Cpu cpu, int pageIndex) {
+            byte[] page = pages[pageIndex];
+            if (page == null) {
+                try {
+                    loadPage(cpu, pageIndex);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                page = pages[pageIndex];
+            }
+            return page;
+        }
 
         void loadPage(Cpu cpu, int pageIndex) throws IOException {
             int startAddr = pageIndex * PAGE_SIZE;
@@ -201,6 +282,8 @@ public class Io {
             URL url = new URL(String.format("%s/%d/%d?len=%d", URI, cpu.getId(), startAddr, PAGE_SIZE));
             HttpURLConnection conn = (HttpURLConnection) url.openConnection();
             conn.setRequestMethod("GET");
+            conn.setConnectTimeout(TIMEOUT_MS);
+            conn.setReadTimeout(TIMEOUT_MS);
 
             if (conn.getResponseCode() != 200) {
                 throw new IOException("Failed to load page: HTTP " + conn.getResponseCode());
@@ -221,7 +304,7 @@ public class Io {
         }
 
         void commitPage(Cpu cpu, int pageIndex) throws IOException {
-            if (!dirty[pageIndex] || pages[pageIndex] == null) return;
+            if (local || !dirty[pageIndex] || pages[pageIndex] == null) return;
 
             byte[] buffer = Arrays.copyOf(pages[pageIndex], PAGE_SIZE);
             dirty[pageIndex] = false;
@@ -231,6 +314,8 @@ public class Io {
             URL url = new URL(String.format("%s/%d/%d?len=%d", URI, cpu.getId(), startAddr, PAGE_SIZE));
             HttpURLConnection conn = (HttpURLConnection) url.openConnection();
             conn.setRequestMethod("POST");
+            conn.setConnectTimeout(TIMEOUT_MS);
+            conn.setReadTimeout(TIMEOUT_MS);
             conn.setDoOutput(true);
             conn.setRequestProperty("Content-Type", "application/octet-stream");
 
@@ -0,0 +1,876 @@
+import java.util.Arrays;
+
+// many consoles running the same ROM, for workloads (training, testing) that
+// start hundreds of copies of one game and only feed them different input.
+// Instead of a Cpu and an Io page map each, the batch keeps every register in
+// an array indexed by instance, shares one copy of ROM and interleaves the
+// rest of memory by address, ram[(addr - 0x8000) * size + k], so the same
+// access from every instance touches neighbouring bytes.
+//
+// Each round every instance that still has budget does what Cpu.step does
+// before an instruction (HALT, timing events, interrupts), then the instances
+// are grouped by PC and each group's opcode is fetched and dispatched once
+// through BatchInterpreter for all of its members. Instances that branch
+// differently simply land in different groups, and fall back into one group
+// whenever their PCs agree again.
+//
+// Semantics are those of a standalone console on an in-memory image (Io with
+// loadImage), except that nothing is written to ROM: there is no MBC banking
+// and writes below 0x8000 are dropped instead of logged
+public final class LockstepBatch {
+    private static final int RAM_BASE = 0x8000;
+
+    private static final long NEVER = EventQueue.NEVER;
+
+    private static final int FLAG_Z = 0x80;
+    private static final int FLAG_N = 0x40;
+    private static final int FLAG_H = 0x20;
+    private static final int FLAG_C = 0x10;
+
+    private final int size;
+    private final byte[] rom; // 0x0000-0x7FFF, shared by every instance
+    private final byte[] ram; // 0x8000-0xFFFF of every instance, interleaved
+
+    // registers
+    private final int[] a, f, b, c, d, e, h, l, sp, pc;
+    private final long[] cycles;
+    private final int[] ie, iflag;
+    private final boolean[] ime, imeQueued, halted;
+    private final int[] buttons;
+
+    // Timing, one entry per instance; NEVER when an event isn't scheduled
+    private final int[] ly, mode;
+    private final long[] nextPpu, nextTimer, nextSerial, nextEvent;
+    private final long[] divBase, timaTicks;
+    private final int[] timerPeriod, tima;
+
+    // why an instance stopped, see Cpu.getFault; faulted instances no longer run
+    private final String[] fault;
+
+    // scratch for a run: per-instance end cycle, the instances still running,
+    // the ones ready for an instruction this round and their PC-sorted keys
+    private final long[] end;
+    private final int[] live, ready;
+    private final long[] keys;
+    private final int[] group;
+    private final int[] single = new int[1];
+
+    // set by anything an instruction does that prepare has to see
+    private boolean attention;
+
+    // opcodes that can leave members at different PCs or charge them
+    // different cycles: JR, JP, CALL, RET, RETI and RST
+    private static final boolean[] BRANCHES = new boolean[0x200];
+
+    static {
+        int[] branches = {
+            0x18, 0x20, 0x28, 0x30, 0x38,
+            0xC2, 0xC3, 0xCA, 0xD2, 0xDA, 0xE9,
+            0xC4, 0xCC, 0xCD, 0xD4, 0xDC,
+            0xC0, 0xC8, 0xC9, 0xD0, 0xD8, 0xD9,
+            0xC7, 0xCF, 0xD7, 0xDF, 0xE7, 0xEF, 0xF7, 0xFF,
+        };
+        for (int op : branches) {
+            BRANCHES[op] = true;
+        }
+    }
+
+    // instructions executed, and how many dispatches they took
+    private long instructions;
+    private long dispatches;
+
+    // size instances, each with the 64KB image loaded as Io.loadImage would
+    public LockstepBatch(int size, byte[] image) {
+        if (size < 1) {
+            throw new IllegalArgumentException("batch of " + size);
+        }
+        this.size = size;
+        rom = Arrays.copyOf(image, RAM_BASE);
+        ram = new byte[(0x10000 - RAM_BASE) * size];
+        for (int addr = RAM_BASE; addr < 0x10000; addr++) {
+            int at = (addr - RAM_BASE) * size;
+            Arrays.fill(ram, at, at + size, image[addr]);
+        }
+
+        a = new int[size];
+        f = new int[size];
+        b = new int[size];
+        c = new int[size];
+        d = new int[size];
+        e = new int[size];
+        h = new int[size];
+        l = new int[size];
+        sp = new int[size];
+        pc = new int[size];
+        cycles = new long[size];
+        ie = new int[size];
+        iflag = new int[size];
+        ime = new boolean[size];
+        imeQueued = new boolean[size];
+        halted = new boolean[size];
+        buttons = new int[size];
+
+        ly = new int[size];
+        mode = new int[size];
+        nextPpu = new long[size];
+        nextTimer = new long[size];
+        nextSerial = new long[size];
+        nextEvent = new long[size];
+        divBase = new long[size];
+        timaTicks = new long[size];
+        timerPeriod = new int[size];
+        tima = new int[size];
+
+        fault = new String[size];
+
+        end = new long[size];
+        live = new int[size];
+        ready = new int[size];
+        keys = new long[size];
+        group = new int[size];
+
+        for (int k = 0; k < size; k++) {
+            ie[k] = image[0xFFFF] & 0xFF;
+            iflag[k] = image[0xFF0F] & 0xFF;
+
+            // the clock starts at 0 at the top of line 0
+            mode[k] = 2;
+            nextPpu[k] = Timing.OAM_CYCLES;
+            nextTimer[k] = NEVER;
+            nextSerial[k] = NEVER;
+            nextEvent[k] = Timing.OAM_CYCLES;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // start every instance from PostBoot instead of the boot ROM, as Cpu does
+    // with Boot.FAST; call before the first run
+    public void skipBoot() {
+        for (int k = 0; k < size; k++) {
+            int instance = k;
+            PostBoot.install(addr -> read8(instance, addr) & 0xFF, (addr, v) -> write8(instance, addr, v));
+            setAF(k, PostBoot.af(read8(k, 0x014D)));
+            setBC(k, PostBoot.BC);
+            setDE(k, PostBoot.DE);
+            setHL(k, PostBoot.HL);
+            setSP(k, PostBoot.SP);
+            setPC(k, PostBoot.PC);
+
+            tima[k] = readTIMA(k);
+            divBase[k] = cycles[k] - PostBoot.DIVIDER;
+            timaTicks[k] = Timing.timerTicks(divBase[k], timerPeriod[k], cycles[k]);
+            scheduleTimer(k);
+            updateNextEvent(k);
+        }
+    }
+
+    // run every instance for at least budget cycles; returns the cycles run,
+    // summed over the instances
+    public long runCycles(long budget) {
+        for (int k = 0; k < size; k++) {
+            end[k] = cycles[k] + budget;
+        }
+        return run();
+    }
+
+    // run every instance to the start of its next frame (LY back to 0)
+    public long runFrame() {
+        for (int k = 0; k < size; k++) {
+            end[k] = cycles[k] + Cpu.CYCLES_PER_FRAME - (cycles[k] % Cpu.CYCLES_PER_FRAME);
+        }
+        return run();
+    }
+
+    private long run() {
+        long before = 0;
+        int running = 0;
+        for (int k = 0; k < size; k++) {
+            before += cycles[k];
+            if (fault[k] == null) {
+                live[running++] = k;
+            }
+        }
+
+        while (running > 0) {
+            int kept = 0;
+            int count = 0;
+            for (int i = 0; i < running; i++) {
+                int k = live[i];
+                if (fault[k] != null || cycles[k] >= end[k]) {
+                    continue;
+                }
+                live[kept++] = k;
+                if (prepare(k)) {
+                    ready[count++] = k;
+                }
+            }
+            running = kept;
+            if (count > 0) {
+                stepGroups(count);
+            }
+        }
+
+        long after = 0;
+        for (int k = 0; k < size; k++) {
+            after += cycles[k];
+        }
+        return after - before;
+    }
+
+    // what Cpu.step does ahead of the instruction; false if the instance spent
+    // the round halted
+    private boolean prepare(int k) {
+        if (halted[k] && haltStep(k, end[k] - cycles[k])) {
+            return false;
+        }
+        if (cycles[k] >= nextEvent[k]) {
+            runTiming(k);
+        }
+        handleInterrupts(k);
+        return true;
+    }
+
+    // the ready instances, a group per distinct PC
+    private void stepGroups(int count) {
+        int first = pc[ready[0]];
+        boolean together = true;
+        for (int i = 1; i < count; i++) {
+            if (pc[ready[i]] != first) {
+                together = false;
+                break;
+            }
+        }
+        if (together) {
+            System.arraycopy(ready, 0, group, 0, count);
+            runGroup(first, group, count);
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) pc[ready[i]] << 32) | ready[i];
+        }
+        Arrays.sort(keys, 0, count);
+        int start = 0;
+        while (start < count) {
+            int at = (int) (keys[start] >>> 32);
+            int n = 0;
+            while (start + n < count && (int) (keys[start + n] >>> 32) == at) {
+                group[n] = (int) keys[start + n];
+                n++;
+            }
+            runGroup(at, group, n);
+            start += n;
+        }
+    }
+
+    // members all have PC at and have been through prepare. Below 0x0100
+    // (boot ROM mapping) and from 0x7FFF up the opcode comes from each
+    // instance's own memory, so members that would decode something else run
+    // on their own.
+    //
+    // The group then keeps going an instruction at a time without going back
+    // to the round, since nothing prepare looks at can change until a member
+    // reaches its next event or the end of its budget (the horizon), or an
+    // instruction raises attention (IE, IF, IME, HALT, a timer register or a
+    // fault). Only branches can send members different ways, so the PCs are
+    // compared after those alone
+    private void runGroup(int at, int[] members, int count) {
+        int leader = members[0];
+        int op = opcodeAt(leader, at);
+        if (!sharedCode(at)) {
+            int same = 1;
+            for (int i = 1; i < count; i++) {
+                int k = members[i];
+                int own = opcodeAt(k, at);
+                if (own == op) {
+                    members[same++] = k;
+                } else {
+                    single[0] = k;
+                    attention = false;
+                    execute(at, own, single, 1);
+                    settle(single, 1);
+                }
+            }
+            count = same;
+        }
+
+        long horizon = horizon(members, count);
+        while (true) {
+            long before = cycles[leader];
+            attention = false;
+            execute(at, op, members, count);
+            if (attention) {
+                settle(members, count);
+                return;
+            }
+
+            at = pc[leader];
+            if (BRANCHES[op]) {
+                for (int i = 1; i < count; i++) {
+                    if (pc[members[i]] != at) {
+                        return;
+                    }
+                }
+                horizon = horizon(members, count);
+            } else {
+                horizon -= cycles[leader] - before;
+            }
+            if (horizon <= 0 || !sharedCode(at)) {
+                return;
+            }
+            op = opcodeAt(leader, at);
+        }
+    }
+
+    private static boolean sharedCode(int at) {
+        return at >= 0x0100 && at < 0x7FFF;
+    }
+
+    // cycles until the first member has to go back through prepare
+    private long horizon(int[] members, int count) {
+        long horizon = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int k = members[i];
+            horizon = Math.min(horizon, Math.min(end[k], nextEvent[k]) - cycles[k]);
+        }
+        return horizon;
+    }
+
+    private int opcodeAt(int k, int at) {
+        int op = read8(k, at) & 0xFF;
+        return op == 0xCB ? 0x100 | (read8(k, at + 1) & 0xFF) : op;
+    }
+
+    private void execute(int at, int op, int[] members, int count) {
+        int next = op >= 0x100 ? 2 : 1;
+        for (int i = 0; i < count; i++) {
+            int k = members[i];
+            pc[k] = (pc[k] + next) & 0xFFFF;
+        }
+
+        try {
+            if (op >= 0x100) {
+                BatchInterpreter.executeCB(this, op & 0xFF, members, count);
+            } else {
+                BatchInterpreter.execute(this, op, members, count);
+            }
+        } catch (RuntimeException ex) {
+            // unimplemented and unused opcodes throw before touching any state,
+            // so the whole group is stopped at the same instruction
+            for (int i = 0; i < count; i++) {
+                int k = members[i];
+                pc[k] = at;
+                fault[k] = String.format("%s at PC 0x%04X, cycle %d", ex, at, cycles[k]);
+            }
+            attention = true;
+            return;
+        }
+        instructions += count;
+        dispatches++;
+    }
+
+    // an EI takes effect after the instruction that follows it
+    private void settle(int[] members, int count) {
+        for (int i = 0; i < count; i++) {
+            int k = members[i];
+            if (imeQueued[k]) {
+                ime[k] = true;
+                imeQueued[k] = false;
+            }
+        }
+    }
+
+    // Cpu.haltStep for one instance
+    private boolean haltStep(int k, long limit) {
+        long start = cycles[k];
+        long stop = start + Math.min(limit, Cpu.CYCLES_PER_FRAME);
+        while (true) {
+            if (cycles[k] >= nextEvent[k]) {
+                runTiming(k);
+            }
+            if ((ie[k] & iflag[k] & 0x1F) != 0) {
+                halted[k] = false;
+                return cycles[k] != start;
+            }
+            if (cycles[k] >= stop) {
+                return true;
+            }
+            cycles[k] = Math.min(nextEvent[k], stop);
+        }
+    }
+
+    private void handleInterrupts(int k) {
+        if (!ime[k]) {
+            return;
+        }
+        int fired = ie[k] & iflag[k] & 0x1F;
+        if (fired == 0) {
+            return;
+        }
+
+        ime[k] = false;
+        push16(k, pc[k]);
+
+        // lowest bit first: V-Blank, LCD STAT, Timer, Serial, Joypad
+        int bit = Integer.numberOfTrailingZeros(fired);
+        pc[k] = 0x40 + bit * 8;
+        iflag[k] &= ~(1 << bit);
+    }
+
+    // timing, as Timing.run for one instance
+
+    private void runTiming(int k) {
+        long now = cycles[k];
+        while (true) {
+            long ppu = nextPpu[k];
+            long timer = nextTimer[k];
+            long serial = nextSerial[k];
+            long next = Math.min(ppu, Math.min(timer, serial));
+            if (next > now) {
+                break;
+            }
+            if (next == ppu) {
+                ppu(k, ppu);
+            } else if (next == timer) {
+                timerOverflow(k, timer);
+            } else {
+                serialDone(k);
+            }
+        }
+        updateNextEvent(k);
+    }
+
+    private void updateNextEvent(int k) {
+        nextEvent[k] = Math.min(nextPpu[k], Math.min(nextTimer[k], nextSerial[k]));
+    }
+
+    private void ppu(int k, long at) {
+        int step = Timing.ppuStep(ly[k], mode[k]);
+        int line = (step >> 8) & 0xFF;
+        ly[k] = line;
+        mode[k] = step & 0x03;
+        if ((step & Timing.PPU_VBLANK) != 0) {
+            iflag[k] |= Timing.INT_VBLANK;
+        }
+        int source = Timing.ppuStatSource(step);
+        if (source != 0) {
+            statInterrupt(k, source);
+        }
+        nextPpu[k] = at + Timing.ppuCycles(step);
+
+        if ((step & Timing.PPU_LINE_START) != 0 && line == (io(k, 0xFF45) & 0xFF)) {
+            statInterrupt(k, Timing.STAT_LYC);
+        }
+    }
+
+    private void statInterrupt(int k, int enableBit) {
+        if ((io(k, 0xFF41) & enableBit) != 0) {
+            iflag[k] |= Timing.INT_STAT;
+        }
+    }
+
+    private int readDIV(int k) {
+        return Timing.div(divBase[k], cycles[k]);
+    }
+
+    private int readTIMA(int k) {
+        return Timing.tima(tima[k], timaTicks[k], divBase[k], timerPeriod[k], cycles[k]);
+    }
+
+    private void timerOverflow(int k, long at) {
+        tima[k] = io(k, 0xFF06) & 0xFF;
+        timaTicks[k] = Timing.timerTicks(divBase[k], timerPeriod[k], at);
+        iflag[k] |= Timing.INT_TIMER;
+        scheduleTimer(k);
+    }
+
+    private void scheduleTimer(int k) {
+        nextTimer[k] = Timing.timerOverflowAt(tima[k], timaTicks[k], divBase[k], timerPeriod[k]);
+    }
+
+    private void serialDone(int k) {
+        nextSerial[k] = NEVER;
+        setIo(k, 0xFF01, 0xFF);
+        setIo(k, 0xFF02, io(k, 0xFF02) & 0x7F);
+        iflag[k] |= Timing.INT_SERIAL;
+    }
+
+    // Timing.written
+    private void written(int k, int addr, int value) {
+        long now = cycles[k];
+        switch (addr) {
+            case 0xFF02:
+                nextSerial[k] = Timing.serialDoneAt(value, now);
+                break;
+            case 0xFF04:
+                tima[k] = readTIMA(k);
+                divBase[k] = now;
+                timaTicks[k] = 0;
+                scheduleTimer(k);
+                break;
+            case 0xFF05:
+                tima[k] = value & 0xFF;
+                timaTicks[k] = Timing.timerTicks(divBase[k], timerPeriod[k], now);
+                scheduleTimer(k);
+                break;
+            case 0xFF07:
+                tima[k] = readTIMA(k);
+                timerPeriod[k] = Timing.timerPeriod(value);
+                timaTicks[k] = Timing.timerTicks(divBase[k], timerPeriod[k], now);
+                scheduleTimer(k);
+                break;
+            default:
+                return;
+        }
+        updateNextEvent(k);
+        attention = true;
+    }
+
+    // bus, as Io.read8/write8 on a loaded image
+
+    // stored byte of an address at or above 0x8000
+    private byte io(int k, int addr) {
+        return ram[(addr - RAM_BASE) * size + k];
+    }
+
+    private void setIo(int k, int addr, int v) {
+        ram[(addr - RAM_BASE) * size + k] = (byte) v;
+    }
+
+    // ROM and plain RAM inline into the interpreter, the rest goes out of line
+    public byte read8(int k, int addr) {
+        addr &= 0xFFFF;
+        if (addr < RAM_BASE) {
+            if (addr >= 0x0100) {
+                return rom[addr];
+            }
+        } else if (addr < 0xFF00) {
+            return ram[(addr - RAM_BASE) * size + k];
+        }
+        return readOther(k, addr);
+    }
+
+    private byte readOther(int k, int addr) {
+        if (addr < RAM_BASE) {
+            if (addr < 0x0100 && io(k, 0xFF50) == 0) {
+                return Io.BIOS[addr];
+            }
+            return rom[addr];
+        }
+
+        switch (addr) {
+            case 0xFF00:
+                int select = io(k, 0xFF00) & 0x30;
+                return (byte) (0xC0 | select | joypadLines(k, select));
+            case 0xFF0F:
+                return (byte) iflag[k];
+            case 0xFFFF:
+                return (byte) ie[k];
+            case 0xFF04:
+                return (byte) readDIV(k);
+            case 0xFF05:
+                return (byte) readTIMA(k);
+            case 0xFF41:
+                int stat = (io(k, 0xFF41) & 0xF8) | mode[k];
+                if (ly[k] == (io(k, 0xFF45) & 0xFF)) {
+                    stat |= 0x04;
+                }
+                return (byte) stat;
+            case 0xFF44:
+                return (byte) ly[k];
+            default:
+                return io(k, addr);
+        }
+    }
+
+    public void write8(int k, int addr, int v) {
+        addr &= 0xFFFF;
+        if (addr >= RAM_BASE && addr < 0xFF00) {
+            ram[(addr - RAM_BASE) * size + k] = (byte) v;
+            return;
+        }
+        writeOther(k, addr, v);
+    }
+
+    private void writeOther(int k, int addr, int v) {
+        if (addr == 0xFF0F) {
+            iflag[k] = v & 0xFF;
+            attention = true;
+            return;
+        }
+        if (addr == 0xFFFF) {
+            ie[k] = v & 0xFF;
+            attention = true;
+            return;
+        }
+        if (addr < RAM_BASE) {
+            return;
+        }
+
+        ram[(addr - RAM_BASE) * size + k] = (byte) v;
+        written(k, addr, v & 0xFF);
+    }
+
+    public void write16(int k, int addr, int v) {
+        write8(k, addr, v & 0xFF);
+        write8(k, (addr + 1) & 0xFFFF, (v >> 8) & 0xFF);
+    }
+
+    public byte fetch8(int k) {
+        int at = pc[k];
+        pc[k] = (at + 1) & 0xFFFF;
+        return read8(k, at);
+    }
+
+    public byte pop8(int k) {
+        byte value = read8(k, sp[k]);
+        sp[k] = (sp[k] + 1) & 0xFFFF;
+        return value;
+    }
+
+    public void push8(int k, int value) {
+        sp[k] = (sp[k] - 1) & 0xFFFF;
+        write8(k, sp[k], value);
+    }
+
+    public void push16(int k, int value) {
+        push8(k, value >> 8);
+        push8(k, value);
+    }
+
+    // joypad, as Cpu.setButtons and Cpu.joypadLines
+
+    public int getButtons(int k) {
+        return buttons[k];
+    }
+
+    public void setButtons(int k, int pressed) {
+        int down = pressed & ~buttons[k];
+        buttons[k] = pressed & 0xFF;
+        if (down != 0) {
+            iflag[k] |= 0x10;
+        }
+    }
+
+    private int joypadLines(int k, int select) {
+        int lines = 0;
+        if ((select & 0x10) == 0) {
+            lines |= buttons[k] & 0x0F;
+        }
+        if ((select & 0x20) == 0) {
+            lines |= buttons[k] >> 4;
+        }
+        return ~lines & 0x0F;
+    }
+
+    // state
+
+    public String getFault(int k) {
+        return fault[k];
+    }
+
+    public long getCycles(int k) {
+        return cycles[k];
+    }
+
+    public long getInstructions() {
+        return instructions;
+    }
+
+    // instructions per opcode dispatch, size when every instance ran in lockstep
+    public double getLockstepWidth() {
+        return dispatches == 0 ? 0 : instructions / (double) dispatches;
+    }
+
+    public boolean isHalted(int k) {
+        return halted[k];
+    }
+
+    public void incCycles(int k, int n) {
+        cycles[k] += n;
+    }
+
+    public void haltUntilInterrupt(int k) {
+        halted[k] = true;
+        attention = true;
+    }
+
+    // applied after the next instruction
+    public void enableInterrupts(int k) {
+        imeQueued[k] = true;
+        attention = true;
+    }
+
+    public void disableInterrupts(int k) {
+        ime[k] = false;
+        attention = true;
+    }
+
+    // registers, as the Cpu accessors of the same name
+
+    public int getAF(int k) {
+        return (a[k] << 8) | f[k];
+    }
+
+    public void setAF(int k, int v) {
+        a[k] = (v >> 8) & 0xFF;
+        f[k] = v & 0xF0;
+    }
+
+    public int getA(int k) {
+        return a[k];
+    }
+
+    public void setA(int k, int v) {
+        a[k] = v & 0xFF;
+    }
+
+    public int getBC(int k) {
+        return (b[k] << 8) | c[k];
+    }
+
+    public void setBC(int k, int v) {
+        b[k] = (v >> 8) & 0xFF;
+        c[k] = v & 0xFF;
+    }
+
+    public int getB(int k) {
+        return b[k];
+    }
+
+    public void setB(int k, int v) {
+        b[k] = v & 0xFF;
+    }
+
+    public int getC(int k) {
+        return c[k];
+    }
+
+    public void setC(int k, int v) {
+        c[k] = v & 0xFF;
+    }
+
+    public int getDE(int k) {
+        return (d[k] << 8) | e[k];
+    }
+
+    public void setDE(int k, int v) {
+        d[k] = (v >> 8) & 0xFF;
+        e[k] = v & 0xFF;
+    }
+
+    public int getD(int k) {
+        return d[k];
+    }
+
+    public void setD(int k, int v) {
+        d[k] = v & 0xFF;
+    }
+
+    public int getE(int k) {
+        return e[k];
+    }
+
+    public void setE(int k, int v) {
+        e[k] = v & 0xFF;
+    }
+
+    public int getHL(int k) {
+        return (h[k] << 8) | l[k];
+    }
+
+    public void setHL(int k, int v) {
+        h[k] = (v >> 8) & 0xFF;
+        l[k] = v & 0xFF;
+    }
+
+    public int getH(int k) {
+        return h[k];
+    }
+
+    public void setH(int k, int v) {
+        h[k] = v & 0xFF;
+    }
+
+    public int getL(int k) {
+        return l[k];
+    }
+
+    public void setL(int k, int v) {
+        l[k] = v & 0xFF;
+    }
+
+    public int getSP(int k) {
+        return sp[k];
+    }
+
+    public void setSP(int k, int v) {
+        sp[k] = v & 0xFFFF;
+    }
+
+    public int getPC(int k) {
+        return pc[k];
+    }
+
+    public void setPC(int k, int v) {
+        pc[k] = v & 0xFFFF;
+    }
+
+    // flags
+
+    public int getF(int k) {
+        return f[k];
+    }
+
+    public void setFlags(int k, int v) {
+        f[k] = v & 0xF0;
+    }
+
+    public void setFlagsKeepCarry(int k, int v) {
+        f[k] = (v & 0xE0) | (f[k] & FLAG_C);
+    }
+
+    public void flagsLogic(int k, int result, boolean halfCarry) {
+        f[k] = (result == 0 ? FLAG_Z : 0) | (halfCarry ? FLAG_H : 0);
+    }
+
+    // the same calls Cpu defers; here F is built right away
+    public void flagsAdd16(int k, int hl, int rr, int result) {
+        f[k] = (f[k] & FLAG_Z) | (((hl ^ rr ^ result) & 0x1000) >> 7) | ((result >> 12) & FLAG_C);
+    }
+
+    public void flagsRotateA(int k, int v, int result, boolean left) {
+        f[k] = left ? (result >> 4) & FLAG_C : (v & 0x01) << 4;
+    }
+
+    public void flagsShift(int k, int v, int result, boolean left) {
+        f[k] = ((result & 0xFF) == 0 ? FLAG_Z : 0) | (left ? (result >> 4) & FLAG_C : (v & 0x01) << 4);
+    }
+
+    public boolean isZ(int k) {
+        return (f[k] & FLAG_Z) != 0;
+    }
+
+    public boolean isC(int k) {
+        return (f[k] & FLAG_C) != 0;
+    }
+
+    public void updateZ(int k, boolean set) {
+        f[k] = set ? f[k] | FLAG_Z : f[k] & ~FLAG_Z;
+    }
+
+    public void updateN(int k, boolean set) {
+        f[k] = set ? f[k] | FLAG_N : f[k] & ~FLAG_N;
+    }
+
+    public void updateH(int k, boolean set) {
+        f[k] = set ? f[k] | FLAG_H : f[k] & ~FLAG_H;
+    }
+
+    public void updateC(int k, boolean set) {
+        f[k] = set ? f[k] | FLAG_C : f[k] & ~FLAG_C;
+    }
+}
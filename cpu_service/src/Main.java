@@ -4,8 +4,10 @@ import com.sun.net.httpserver.HttpHandler;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
 import java.util.Map;
 
 public class Main {
@@ -13,6 +15,17 @@ public class Main {
     // Map of CPU instances by ID
     private static final Map<Integer, Cpu> cpuMap = new ConcurrentHashMap<>();
 
+    // largest /trace ring a request can ask for (24 bytes a record), so one
+    // request can't allocate hundreds of MB per console; CPU_TRACE_MAX overrides
+    private static final int MAX_TRACE_RECORDS =
+        System.getenv("CPU_TRACE_MAX") != null ? Integer.parseInt(System.getenv("CPU_TRACE_MAX")) : 1 << 16;
+
+    // largest /run budget: runs happen on the HTTP dispatcher thread, so a
+    // longer one would stall every other endpoint. CPU_MAX_RUN_CYCLES
+    // overrides, default 240 frames (4 emulated seconds)
+    private static final long MAX_RUN_CYCLES =
+        System.getenv("CPU_MAX_RUN_CYCLES") != null ? Long.parseLong(System.getenv("CPU_MAX_RUN_CYCLES")) : 240L * Cpu.CYCLES_PER_FRAME;
+
     // -----------------------------------
     // Handler for CPU step
     // -----------------------------------
@@ -24,7 +37,7 @@ public class Main {
             String path = exchange.getRequestURI().getPath();
 
             String[] parts = path.split("/");
-            if (parts.length < 3 || (!"step".equalsIgnoreCase(parts[2]) && !"reset".equalsIgnoreCase(parts[2]))) {
+            if (parts.length < 3 || (!"step".equalsIgnoreCase(parts[2]) && !"reset".equalsIgnoreCase(parts[2]) && !"engine".equalsIgnoreCase(parts[2]) && !"run".equalsIgnoreCase(parts[2]) && !"threads".equalsIgnoreCase(parts[2]) && !"speed".equalsIgnoreCase(parts[2]) && !"idleskip".equalsIgnoreCase(parts[2]) && !"trace".equalsIgnoreCase(parts[2]) && !"opstats".equalsIgnoreCase(parts[2]) && !"buttons".equalsIgnoreCase(parts[2]))) {
                 exchange.sendResponseHeaders(404, -1);
                 return;
             }
@@ -56,12 +69,16 @@ public class Main {
                     e.printStackTrace();
                 }
             } else if ("reset".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/reset[/{full|fast}], the boot mode sticks for later resets
                 try {
                     int cpuId = Integer.parseInt(parts[1]);
                     Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
 
+                    Cpu.Boot boot = parts.length < 4 ? cpu.getBoot() : Cpu.Boot.parse(parts[3]);
+
                     //cpu.step(); // execute one instruction
                     cpu.halt();
+                    cpu.setBoot(boot);
                     cpu.reset();
 
                     String response = "OK";
@@ -70,6 +87,110 @@ public class Main {
                         os.write(response.getBytes());
                     }
 
+                } catch (IllegalArgumentException e) {
+                    // also covers NumberFormatException
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("engine".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/engine/{table|switch}
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setEngine(Cpu.Engine.parse(parts[3]));
+
+                    String response = cpu.getEngine().name();
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (IllegalArgumentException e) {
+                    // also covers NumberFormatException
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("threads".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/threads/{scheduled|platform|virtual}, used from the next /step
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setThreadMode(Cpu.ThreadMode.parse(parts[3]));
+
+                    String response = cpu.getThreadMode().name();
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (IllegalArgumentException e) {
+                    // also covers NumberFormatException
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("speed".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/speed/{0.25|1|2|8|uncapped}, takes effect from the next frame
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setSpeed(Cpu.parseSpeed(parts[3]));
+
+                    String response = Cpu.formatSpeed(cpu.getSpeed());
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (IllegalArgumentException e) {
+                    // also covers NumberFormatException
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("idleskip".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/idleskip/{on|off}, fast-forward LY/STAT polling loops
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4 || (!"on".equalsIgnoreCase(parts[3]) && !"off".equalsIgnoreCase(parts[3]))) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setIdleSkipEnabled("on".equalsIgnoreCase(parts[3]));
+
+                    String response = cpu.isIdleSkipEnabled() ? "on" : "off";
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
                 } catch (NumberFormatException e) {
                     exchange.sendResponseHeaders(400, -1);
                     e.printStackTrace();
@@ -77,6 +198,142 @@ public class Main {
                     exchange.sendResponseHeaders(500, -1);
                     e.printStackTrace();
                 }
+            } else if ("trace".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/trace/{on|off|records}, a fresh trace of the last instructions
+                // (on = 4096, 400 above MAX_TRACE_RECORDS). A fault is only captured
+                // while the console is tracing
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    int records;
+                    if ("on".equalsIgnoreCase(parts[3])) {
+                        records = 4096;
+                    } else if ("off".equalsIgnoreCase(parts[3])) {
+                        records = 0;
+                    } else {
+                        records = Integer.parseInt(parts[3]);
+                        if (records < 0 || records > MAX_TRACE_RECORDS) {
+                            exchange.sendResponseHeaders(400, -1);
+                            return;
+                        }
+                    }
+                    cpu.setTrace(records);
+
+                    TraceBuffer trace = cpu.getTrace();
+                    String response = trace == null ? "off" : Integer.toString(trace.capacity());
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (NumberFormatException e) {
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("opstats".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/opstats/{on|off}, count executions and cycles per opcode from zero
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4 || (!"on".equalsIgnoreCase(parts[3]) && !"off".equalsIgnoreCase(parts[3]))) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setOpcodeStatsEnabled("on".equalsIgnoreCase(parts[3]));
+
+                    String response = cpu.getOpcodeCounters() != null ? "on" : "off";
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (NumberFormatException e) {
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("buttons".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/buttons/{mask}, pressed buttons in Cpu.BUTTONS bit order
+                // (0 releases all), from input_service; applied at the next run or step
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    int mask = parts.length < 4 ? -1 : Integer.parseInt(parts[3]);
+                    if (mask < 0 || mask > 0xFF) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+                    cpu.setButtons(mask);
+
+                    String response = Integer.toString(mask);
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (NumberFormatException e) {
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
+            } else if ("run".equalsIgnoreCase(parts[2])) {
+                // POST /{id}/run/{cycles|frame}, runs unpaced and returns the cycles used;
+                // 400 above MAX_RUN_CYCLES
+                try {
+                    int cpuId = Integer.parseInt(parts[1]);
+                    Cpu cpu = cpuMap.computeIfAbsent(cpuId, id -> new Cpu(cpuId));
+
+                    if (parts.length < 4) {
+                        exchange.sendResponseHeaders(400, -1);
+                        return;
+                    }
+
+                    long used;
+                    if ("frame".equalsIgnoreCase(parts[3])) {
+                        used = cpu.runFrame();
+                    } else {
+                        long budget = Long.parseLong(parts[3]);
+                        if (budget < 0 || budget > MAX_RUN_CYCLES) {
+                            exchange.sendResponseHeaders(400, -1);
+                            return;
+                        }
+                        used = cpu.runCycles(budget);
+                    }
+
+                    String response = Long.toString(used);
+                    exchange.sendResponseHeaders(200, response.getBytes().length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response.getBytes());
+                    }
+
+                } catch (NumberFormatException e) {
+                    exchange.sendResponseHeaders(400, -1);
+                    e.printStackTrace();
+                } catch (IllegalStateException e) {
+                    // started with /step, the console thread owns it
+                    exchange.sendResponseHeaders(409, -1);
+                } catch (UncheckedIOException e) {
+                    // memory_service failed mid-run, the console is faulted (see /stats)
+                    exchange.sendResponseHeaders(502, -1);
+                    System.out.println(e);
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    e.printStackTrace();
+                }
             }
         }
     }
@@ -124,6 +381,137 @@ public class Main {
         }
     }
 
+    // per-opcode executions and cycles: /opstats/{id} for one console, /opstats
+    // for all of them added up; JSON, or Prometheus text with ?format=prometheus
+    static class OpcodeStatsHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            boolean prometheus = query != null && query.contains("format=prometheus");
+            String[] parts = path.split("/");
+
+            try {
+                Integer cpuId = null;
+                long[] counts;
+                if (parts.length < 3 || "all".equalsIgnoreCase(parts[2])) {
+                    counts = OpcodeStats.aggregate(cpuMap.values());
+                } else {
+                    cpuId = Integer.parseInt(parts[2]);
+                    Cpu cpu = cpuMap.get(cpuId);
+                    counts = cpu == null ? null : cpu.getOpcodeCounters();
+                    if (counts == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                }
+
+                String body = prometheus ? OpcodeStats.toPrometheus(counts, cpuId) : OpcodeStats.toJson(counts);
+                exchange.getResponseHeaders().set("Content-Type", prometheus ? "text/plain; version=0.0.4" : "application/json");
+                byte[] bytes = body.getBytes();
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(bytes);
+                }
+
+            } catch (NumberFormatException e) {
+                exchange.sendResponseHeaders(400, -1);
+            }
+        }
+    }
+
+    // binary instruction trace, decode with TraceDecoder
+    static class TraceHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String[] parts = path.split("/");
+            if (parts.length < 3) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+
+            try {
+                int cpuId = Integer.parseInt(parts[2]);
+                Cpu cpu = cpuMap.get(cpuId);
+                TraceBuffer trace = cpu == null ? null : cpu.getTrace();
+                if (trace == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+
+                exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+                byte[] bytes = trace.dump();
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(bytes);
+                }
+
+            } catch (NumberFormatException e) {
+                exchange.sendResponseHeaders(400, -1);
+            }
+        }
+    }
+
+    // pacing stats for a running console
+    static class StatsHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String[] parts = path.split("/");
+            if (parts.length < 3) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+
+            try {
+                int cpuId = Integer.parseInt(parts[2]);
+                Cpu cpu = cpuMap.get(cpuId);
+                if (cpu == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+
+                long wallNs = cpu.getWallNanos();
+                long cpuNs = cpu.getHostCpuNanos();
+                double cpuPercent = wallNs > 0 ? 100.0 * cpuNs / wallNs : 0;
+
+                String json = String.format(Locale.ROOT,
+                    "{ \"running\": %b, \"threads\": \"%s\", \"speed\": \"%s\", \"achievedMhz\": %.3f, \"cycles\": %d, \"frames\": %d, \"lateFrames\": %d, \"deadlineMisses\": %d, \"hostCpuMs\": %d, \"wallMs\": %d, \"hostCpuPercent\": %.1f, \"idleSkip\": %b, \"idleSkips\": %d, \"idleCyclesSkipped\": %d, \"superinstructions\": %s, \"fault\": %s }",
+                    cpu.isRunning(), cpu.getThreadMode().name().toLowerCase(), Cpu.formatSpeed(cpu.getSpeed()), cpu.getAchievedMhz(), cpu.getCycles(), cpu.getFrames(), cpu.getLateFrames(), cpu.getDeadlineMisses(),
+                    cpuNs / 1_000_000, wallNs / 1_000_000, cpuPercent,
+                    cpu.isIdleSkipEnabled(), cpu.getIdleSkips(), cpu.getIdleCyclesSkipped(), superinstructionsJson(cpu),
+                    cpu.getFault() == null ? "null" : "\"" + cpu.getFault().replace("\\", "\\\\").replace("\"", "\\\"") + "\""
+                );
+
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                byte[] bytes = json.getBytes();
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(bytes);
+                }
+
+            } catch (NumberFormatException e) {
+                exchange.sendResponseHeaders(400, -1);
+            }
+        }
+
+        // completed runs of each fused sequence, by name
+        private static String superinstructionsJson(Cpu cpu) {
+            Superinstruction[] supers = InstructionDecoder.getSuperinstructions();
+            long[] fires = cpu.getSuperinstructionFires();
+            StringBuilder json = new StringBuilder("{");
+            for (int i = 0; i < supers.length; i++) {
+                json.append(i == 0 ? " " : ", ");
+                json.append(String.format("\"%s\": %d", supers[i].name, fires[i]));
+            }
+            return json.append(" }").toString();
+        }
+    }
+
     public static void main(String[] args) throws IOException {
         int port = 8080;
         HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
@@ -136,6 +524,15 @@ public class Main {
         // return registers
         server.createContext("/debug", new DebugHandler());
 
+        // executions and cycles per opcode
+        server.createContext("/opstats", new OpcodeStatsHandler());
+
+        // host CPU use and frame pacing
+        server.createContext("/stats", new StatsHandler());
+
+        // last instructions as binary records
+        server.createContext("/trace", new TraceHandler());
+
         server.setExecutor(null); // default executor
         server.start();
     }
@@ -0,0 +1,89 @@
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+// per-opcode execution and cycle counts: one long[] per console, indexed
+// [op * 2] = executions and [op * 2 + 1] = cycles, with op the opcode or
+// 0x100 | cb for the CB table. Consoles only increment their own array;
+// aggregates and names are worked out here when someone asks
+public final class OpcodeStats {
+    public static final int OPCODES = 0x200;
+
+    private OpcodeStats() {
+    }
+
+    public static long[] newCounters() {
+        return new long[OPCODES * 2];
+    }
+
+    // sum of every console that counts
+    public static long[] aggregate(Iterable<Cpu> cpus) {
+        long[] total = newCounters();
+        for (Cpu cpu : cpus) {
+            long[] counts = cpu.getOpcodeCounters();
+            if (counts == null) {
+                continue;
+            }
+            for (int i = 0; i < total.length; i++) {
+                total[i] += counts[i];
+            }
+        }
+        return total;
+    }
+
+    public static String name(int op) {
+        Instruction ins = op >= 0x100 ? InstructionDecoder.getCBIns(op & 0xFF) : InstructionDecoder.getIns(op);
+        return ins == null ? "?" : ins.name();
+    }
+
+    // opcodes that ran, busiest (by cycles) first
+    public static String toJson(long[] counts) {
+        long executions = 0;
+        long cycles = 0;
+        for (int op = 0; op < OPCODES; op++) {
+            executions += counts[op * 2];
+            cycles += counts[op * 2 + 1];
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{ \"executions\": %d, \"cycles\": %d, \"opcodes\": [", executions, cycles));
+        boolean first = true;
+        for (int op : byCycles(counts)) {
+            json.append(first ? " " : ", ");
+            first = false;
+            json.append(String.format(Locale.ROOT, "{ \"table\": \"%s\", \"opcode\": \"0x%02X\", \"name\": \"%s\", \"executions\": %d, \"cycles\": %d }",
+                op >= 0x100 ? "cb" : "main", op & 0xFF, name(op), counts[op * 2], counts[op * 2 + 1]));
+        }
+        json.append(" ] }");
+        return json.toString();
+    }
+
+    // Prometheus text format, console is null for the aggregate
+    public static String toPrometheus(long[] counts, Integer console) {
+        String consoleLabel = console == null ? "" : "console=\"" + console + "\",";
+        StringBuilder text = new StringBuilder();
+
+        text.append("# HELP cpu_opcode_executions_total Instructions executed, by opcode.\n");
+        text.append("# TYPE cpu_opcode_executions_total counter\n");
+        for (int op : byCycles(counts)) {
+            text.append(String.format(Locale.ROOT, "cpu_opcode_executions_total{%stable=\"%s\",opcode=\"0x%02X\",name=\"%s\"} %d\n",
+                consoleLabel, op >= 0x100 ? "cb" : "main", op & 0xFF, name(op), counts[op * 2]));
+        }
+
+        text.append("# HELP cpu_opcode_cycles_total Emulated cycles spent, by opcode.\n");
+        text.append("# TYPE cpu_opcode_cycles_total counter\n");
+        for (int op : byCycles(counts)) {
+            text.append(String.format(Locale.ROOT, "cpu_opcode_cycles_total{%stable=\"%s\",opcode=\"0x%02X\",name=\"%s\"} %d\n",
+                consoleLabel, op >= 0x100 ? "cb" : "main", op & 0xFF, name(op), counts[op * 2 + 1]));
+        }
+        return text.toString();
+    }
+
+    private static int[] byCycles(long[] counts) {
+        return IntStream.range(0, OPCODES)
+            .filter(op -> counts[op * 2] != 0)
+            .boxed()
+            .sorted((a, b) -> Long.compare(counts[b * 2 + 1], counts[a * 2 + 1]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
@@ -0,0 +1,7869 @@
+// generated by gen/OpcodeGen.java from gen/opcodes.txt, do not edit
+//
+// The table engine's handlers, one small class per opcode, and the decode
+// facts the block cache needs. InstructionDecoder is the way in
+final class OpcodeTable {
+    private OpcodeTable() {
+    }
+
+    static int length(int opcode) {
+        switch (opcode) {
+            case 0x01: case 0x08: case 0x11: case 0x21: case 0x31: case 0xC2: case 0xC3: case 0xC4:
+            case 0xCA: case 0xCC: case 0xCD: case 0xD2: case 0xD4: case 0xDA: case 0xDC: case 0xEA:
+            case 0xFA:
+                return 3;
+            case 0x06: case 0x0E: case 0x10: case 0x16: case 0x18: case 0x1E: case 0x20: case 0x26:
+            case 0x28: case 0x2E: case 0x30: case 0x36: case 0x38: case 0x3E: case 0xC6: case 0xCB:
+            case 0xCE: case 0xD6: case 0xDE: case 0xE0: case 0xE6: case 0xE8: case 0xEE: case 0xF0:
+            case 0xF6: case 0xF8: case 0xFE:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    static boolean endsBlock(int opcode) {
+        switch (opcode) {
+            case 0x10: case 0x18: case 0x20: case 0x28: case 0x30: case 0x38: case 0x76: case 0xC0:
+            case 0xC2: case 0xC3: case 0xC4: case 0xC7: case 0xC8: case 0xC9: case 0xCA: case 0xCC:
+            case 0xCD: case 0xCF: case 0xD0: case 0xD2: case 0xD4: case 0xD7: case 0xD8: case 0xD9:
+            case 0xDA: case 0xDC: case 0xDF: case 0xE7: case 0xE9: case 0xEF: case 0xF7: case 0xFF:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static Instruction[] handlers() {
+        Instruction[] table = new Instruction[256];
+
+        // 0x00 - NOP
+        table[0x00] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "NOP";
+            }
+        };
+
+        // 0x01 - LD BC, d16
+        table[0x01] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setBC(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD BC, d16";
+            }
+        };
+
+        // 0x02 - LD (BC), A
+        table[0x02] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.write8(cpu.getBC(), cpu.getA());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (BC), A";
+            }
+        };
+
+        // 0x03 - INC BC
+        table[0x03] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setBC(cpu.getBC() + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "INC BC";
+            }
+        };
+
+        // 0x04 - INC B
+        table[0x04] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getB());
+                cpu.setB(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC B";
+            }
+        };
+
+        // 0x05 - DEC B
+        table[0x05] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getB());
+                cpu.setB(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC B";
+            }
+        };
+
+        // 0x06 - LD B, d8
+        table[0x06] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, d8";
+            }
+        };
+
+        // 0x07 - RLCA
+        table[0x07] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "RLCA";
+            }
+        };
+
+        // 0x08 - LD (a16), SP
+        table[0x08] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.write16(addr, cpu.getSP());
+                cpu.incCycles(20);
+            }
+
+            @Override
+            public String name() {
+                return "LD (a16), SP";
+            }
+        };
+
+        // 0x09 - ADD HL, BC
+        table[0x09] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int rr = cpu.getBC();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD HL, BC";
+            }
+        };
+
+        // 0x0A - LD A, (BC)
+        table[0x0A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.read8(cpu.getBC()) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (BC)";
+            }
+        };
+
+        // 0x0B - DEC BC
+        table[0x0B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setBC(cpu.getBC() - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "DEC BC";
+            }
+        };
+
+        // 0x0C - INC C
+        table[0x0C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getC());
+                cpu.setC(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC C";
+            }
+        };
+
+        // 0x0D - DEC C
+        table[0x0D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getC());
+                cpu.setC(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC C";
+            }
+        };
+
+        // 0x0E - LD C, d8
+        table[0x0E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, d8";
+            }
+        };
+
+        // 0x0F - RRCA
+        table[0x0F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "RRCA";
+            }
+        };
+
+        // 0x10 - STOP d8
+        table[0x10] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                // skips its operand byte; low-power mode isn't emulated
+                cpu.fetch8();
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "STOP d8";
+            }
+        };
+
+        // 0x11 - LD DE, d16
+        table[0x11] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setDE(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD DE, d16";
+            }
+        };
+
+        // 0x12 - LD (DE), A
+        table[0x12] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.write8(cpu.getDE(), cpu.getA());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (DE), A";
+            }
+        };
+
+        // 0x13 - INC DE
+        table[0x13] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setDE(cpu.getDE() + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "INC DE";
+            }
+        };
+
+        // 0x14 - INC D
+        table[0x14] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getD());
+                cpu.setD(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC D";
+            }
+        };
+
+        // 0x15 - DEC D
+        table[0x15] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getD());
+                cpu.setD(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC D";
+            }
+        };
+
+        // 0x16 - LD D, d8
+        table[0x16] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, d8";
+            }
+        };
+
+        // 0x17 - RLA
+        table[0x17] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "RLA";
+            }
+        };
+
+        // 0x18 - JR r8
+        table[0x18] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int e = cpu.fetch8();
+                cpu.setPC(cpu.getPC() + e);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "JR r8";
+            }
+        };
+
+        // 0x19 - ADD HL, DE
+        table[0x19] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int rr = cpu.getDE();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD HL, DE";
+            }
+        };
+
+        // 0x1A - LD A, (DE)
+        table[0x1A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.read8(cpu.getDE()) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (DE)";
+            }
+        };
+
+        // 0x1B - DEC DE
+        table[0x1B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setDE(cpu.getDE() - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "DEC DE";
+            }
+        };
+
+        // 0x1C - INC E
+        table[0x1C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getE());
+                cpu.setE(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC E";
+            }
+        };
+
+        // 0x1D - DEC E
+        table[0x1D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getE());
+                cpu.setE(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC E";
+            }
+        };
+
+        // 0x1E - LD E, d8
+        table[0x1E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, d8";
+            }
+        };
+
+        // 0x1F - RRA
+        table[0x1F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "RRA";
+            }
+        };
+
+        // 0x20 - JR NZ, r8
+        table[0x20] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int e = cpu.fetch8();
+                if (!cpu.isZ()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JR NZ, r8";
+            }
+        };
+
+        // 0x21 - LD HL, d16
+        table[0x21] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setHL(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD HL, d16";
+            }
+        };
+
+        // 0x22 - LD (HL+), A
+        table[0x22] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.setHL(hl + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL+), A";
+            }
+        };
+
+        // 0x23 - INC HL
+        table[0x23] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setHL(cpu.getHL() + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "INC HL";
+            }
+        };
+
+        // 0x24 - INC H
+        table[0x24] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getH());
+                cpu.setH(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC H";
+            }
+        };
+
+        // 0x25 - DEC H
+        table[0x25] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getH());
+                cpu.setH(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC H";
+            }
+        };
+
+        // 0x26 - LD H, d8
+        table[0x26] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, d8";
+            }
+        };
+
+        // 0x27 - DAA
+        table[0x27] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.daa(cpu.getA(), cpu.getF());
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DAA";
+            }
+        };
+
+        // 0x28 - JR Z, r8
+        table[0x28] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int e = cpu.fetch8();
+                if (cpu.isZ()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JR Z, r8";
+            }
+        };
+
+        // 0x29 - ADD HL, HL
+        table[0x29] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int rr = cpu.getHL();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD HL, HL";
+            }
+        };
+
+        // 0x2A - LD A, (HL+)
+        table[0x2A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.setHL(hl + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (HL+)";
+            }
+        };
+
+        // 0x2B - DEC HL
+        table[0x2B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setHL(cpu.getHL() - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "DEC HL";
+            }
+        };
+
+        // 0x2C - INC L
+        table[0x2C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getL());
+                cpu.setL(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC L";
+            }
+        };
+
+        // 0x2D - DEC L
+        table[0x2D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getL());
+                cpu.setL(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC L";
+            }
+        };
+
+        // 0x2E - LD L, d8
+        table[0x2E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, d8";
+            }
+        };
+
+        // 0x2F - CPL
+        table[0x2F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(~cpu.getA());
+                cpu.setFlags((cpu.getF() & 0x90) | 0x60);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CPL";
+            }
+        };
+
+        // 0x30 - JR NC, r8
+        table[0x30] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int e = cpu.fetch8();
+                if (!cpu.isC()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JR NC, r8";
+            }
+        };
+
+        // 0x31 - LD SP, d16
+        table[0x31] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setSP(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD SP, d16";
+            }
+        };
+
+        // 0x32 - LD (HL-), A
+        table[0x32] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.setHL(hl - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL-), A";
+            }
+        };
+
+        // 0x33 - INC SP
+        table[0x33] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setSP(cpu.getSP() + 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "INC SP";
+            }
+        };
+
+        // 0x34 - INC (HL)
+        table[0x34] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.inc(cpu.read8(hl) & 0xFF);
+                cpu.write8(hl, r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "INC (HL)";
+            }
+        };
+
+        // 0x35 - DEC (HL)
+        table[0x35] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.dec(cpu.read8(hl) & 0xFF);
+                cpu.write8(hl, r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "DEC (HL)";
+            }
+        };
+
+        // 0x36 - LD (HL), d8
+        table[0x36] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.fetch8() & 0xFF);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), d8";
+            }
+        };
+
+        // 0x37 - SCF
+        table[0x37] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setFlags((cpu.getF() & 0x80) | 0x10);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SCF";
+            }
+        };
+
+        // 0x38 - JR C, r8
+        table[0x38] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int e = cpu.fetch8();
+                if (cpu.isC()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JR C, r8";
+            }
+        };
+
+        // 0x39 - ADD HL, SP
+        table[0x39] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int rr = cpu.getSP();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD HL, SP";
+            }
+        };
+
+        // 0x3A - LD A, (HL-)
+        table[0x3A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.setHL(hl - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (HL-)";
+            }
+        };
+
+        // 0x3B - DEC SP
+        table[0x3B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setSP(cpu.getSP() - 1);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "DEC SP";
+            }
+        };
+
+        // 0x3C - INC A
+        table[0x3C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.inc(cpu.getA());
+                cpu.setA(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "INC A";
+            }
+        };
+
+        // 0x3D - DEC A
+        table[0x3D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.dec(cpu.getA());
+                cpu.setA(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DEC A";
+            }
+        };
+
+        // 0x3E - LD A, d8
+        table[0x3E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, d8";
+            }
+        };
+
+        // 0x3F - CCF
+        table[0x3F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setFlags((cpu.getF() & 0x80) | (!cpu.isC() ? 0x10 : 0));
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CCF";
+            }
+        };
+
+        // 0x40 - LD B, B
+        table[0x40] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, B";
+            }
+        };
+
+        // 0x41 - LD B, C
+        table[0x41] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, C";
+            }
+        };
+
+        // 0x42 - LD B, D
+        table[0x42] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, D";
+            }
+        };
+
+        // 0x43 - LD B, E
+        table[0x43] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, E";
+            }
+        };
+
+        // 0x44 - LD B, H
+        table[0x44] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, H";
+            }
+        };
+
+        // 0x45 - LD B, L
+        table[0x45] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, L";
+            }
+        };
+
+        // 0x46 - LD B, (HL)
+        table[0x46] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setB(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, (HL)";
+            }
+        };
+
+        // 0x47 - LD B, A
+        table[0x47] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD B, A";
+            }
+        };
+
+        // 0x48 - LD C, B
+        table[0x48] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, B";
+            }
+        };
+
+        // 0x49 - LD C, C
+        table[0x49] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, C";
+            }
+        };
+
+        // 0x4A - LD C, D
+        table[0x4A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, D";
+            }
+        };
+
+        // 0x4B - LD C, E
+        table[0x4B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, E";
+            }
+        };
+
+        // 0x4C - LD C, H
+        table[0x4C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, H";
+            }
+        };
+
+        // 0x4D - LD C, L
+        table[0x4D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, L";
+            }
+        };
+
+        // 0x4E - LD C, (HL)
+        table[0x4E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setC(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, (HL)";
+            }
+        };
+
+        // 0x4F - LD C, A
+        table[0x4F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD C, A";
+            }
+        };
+
+        // 0x50 - LD D, B
+        table[0x50] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, B";
+            }
+        };
+
+        // 0x51 - LD D, C
+        table[0x51] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, C";
+            }
+        };
+
+        // 0x52 - LD D, D
+        table[0x52] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, D";
+            }
+        };
+
+        // 0x53 - LD D, E
+        table[0x53] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, E";
+            }
+        };
+
+        // 0x54 - LD D, H
+        table[0x54] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, H";
+            }
+        };
+
+        // 0x55 - LD D, L
+        table[0x55] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, L";
+            }
+        };
+
+        // 0x56 - LD D, (HL)
+        table[0x56] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setD(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, (HL)";
+            }
+        };
+
+        // 0x57 - LD D, A
+        table[0x57] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD D, A";
+            }
+        };
+
+        // 0x58 - LD E, B
+        table[0x58] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, B";
+            }
+        };
+
+        // 0x59 - LD E, C
+        table[0x59] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, C";
+            }
+        };
+
+        // 0x5A - LD E, D
+        table[0x5A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, D";
+            }
+        };
+
+        // 0x5B - LD E, E
+        table[0x5B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, E";
+            }
+        };
+
+        // 0x5C - LD E, H
+        table[0x5C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, H";
+            }
+        };
+
+        // 0x5D - LD E, L
+        table[0x5D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, L";
+            }
+        };
+
+        // 0x5E - LD E, (HL)
+        table[0x5E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setE(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, (HL)";
+            }
+        };
+
+        // 0x5F - LD E, A
+        table[0x5F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD E, A";
+            }
+        };
+
+        // 0x60 - LD H, B
+        table[0x60] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, B";
+            }
+        };
+
+        // 0x61 - LD H, C
+        table[0x61] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, C";
+            }
+        };
+
+        // 0x62 - LD H, D
+        table[0x62] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, D";
+            }
+        };
+
+        // 0x63 - LD H, E
+        table[0x63] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, E";
+            }
+        };
+
+        // 0x64 - LD H, H
+        table[0x64] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, H";
+            }
+        };
+
+        // 0x65 - LD H, L
+        table[0x65] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, L";
+            }
+        };
+
+        // 0x66 - LD H, (HL)
+        table[0x66] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setH(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, (HL)";
+            }
+        };
+
+        // 0x67 - LD H, A
+        table[0x67] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD H, A";
+            }
+        };
+
+        // 0x68 - LD L, B
+        table[0x68] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, B";
+            }
+        };
+
+        // 0x69 - LD L, C
+        table[0x69] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, C";
+            }
+        };
+
+        // 0x6A - LD L, D
+        table[0x6A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, D";
+            }
+        };
+
+        // 0x6B - LD L, E
+        table[0x6B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, E";
+            }
+        };
+
+        // 0x6C - LD L, H
+        table[0x6C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, H";
+            }
+        };
+
+        // 0x6D - LD L, L
+        table[0x6D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, L";
+            }
+        };
+
+        // 0x6E - LD L, (HL)
+        table[0x6E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setL(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, (HL)";
+            }
+        };
+
+        // 0x6F - LD L, A
+        table[0x6F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD L, A";
+            }
+        };
+
+        // 0x70 - LD (HL), B
+        table[0x70] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getB());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), B";
+            }
+        };
+
+        // 0x71 - LD (HL), C
+        table[0x71] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getC());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), C";
+            }
+        };
+
+        // 0x72 - LD (HL), D
+        table[0x72] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getD());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), D";
+            }
+        };
+
+        // 0x73 - LD (HL), E
+        table[0x73] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getE());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), E";
+            }
+        };
+
+        // 0x74 - LD (HL), H
+        table[0x74] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getH());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), H";
+            }
+        };
+
+        // 0x75 - LD (HL), L
+        table[0x75] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getL());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), L";
+            }
+        };
+
+        // 0x76 - HALT
+        table[0x76] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.haltUntilInterrupt();
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "HALT";
+            }
+        };
+
+        // 0x77 - LD (HL), A
+        table[0x77] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (HL), A";
+            }
+        };
+
+        // 0x78 - LD A, B
+        table[0x78] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getB());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, B";
+            }
+        };
+
+        // 0x79 - LD A, C
+        table[0x79] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getC());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, C";
+            }
+        };
+
+        // 0x7A - LD A, D
+        table[0x7A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getD());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, D";
+            }
+        };
+
+        // 0x7B - LD A, E
+        table[0x7B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getE());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, E";
+            }
+        };
+
+        // 0x7C - LD A, H
+        table[0x7C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getH());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, H";
+            }
+        };
+
+        // 0x7D - LD A, L
+        table[0x7D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, L";
+            }
+        };
+
+        // 0x7E - LD A, (HL)
+        table[0x7E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (HL)";
+            }
+        };
+
+        // 0x7F - LD A, A
+        table[0x7F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, A";
+            }
+        };
+
+        // 0x80 - ADD A, B
+        table[0x80] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getB(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, B";
+            }
+        };
+
+        // 0x81 - ADD A, C
+        table[0x81] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getC(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, C";
+            }
+        };
+
+        // 0x82 - ADD A, D
+        table[0x82] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getD(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, D";
+            }
+        };
+
+        // 0x83 - ADD A, E
+        table[0x83] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getE(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, E";
+            }
+        };
+
+        // 0x84 - ADD A, H
+        table[0x84] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getH(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, H";
+            }
+        };
+
+        // 0x85 - ADD A, L
+        table[0x85] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getL(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, L";
+            }
+        };
+
+        // 0x86 - ADD A, (HL)
+        table[0x86] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.add(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, (HL)";
+            }
+        };
+
+        // 0x87 - ADD A, A
+        table[0x87] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getA(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, A";
+            }
+        };
+
+        // 0x88 - ADC A, B
+        table[0x88] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getB(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, B";
+            }
+        };
+
+        // 0x89 - ADC A, C
+        table[0x89] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getC(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, C";
+            }
+        };
+
+        // 0x8A - ADC A, D
+        table[0x8A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getD(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, D";
+            }
+        };
+
+        // 0x8B - ADC A, E
+        table[0x8B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getE(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, E";
+            }
+        };
+
+        // 0x8C - ADC A, H
+        table[0x8C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getH(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, H";
+            }
+        };
+
+        // 0x8D - ADC A, L
+        table[0x8D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getL(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, L";
+            }
+        };
+
+        // 0x8E - ADC A, (HL)
+        table[0x8E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.add(cpu.getA(), cpu.read8(hl) & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, (HL)";
+            }
+        };
+
+        // 0x8F - ADC A, A
+        table[0x8F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.getA(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, A";
+            }
+        };
+
+        // 0x90 - SUB B
+        table[0x90] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getB(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB B";
+            }
+        };
+
+        // 0x91 - SUB C
+        table[0x91] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getC(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB C";
+            }
+        };
+
+        // 0x92 - SUB D
+        table[0x92] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getD(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB D";
+            }
+        };
+
+        // 0x93 - SUB E
+        table[0x93] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getE(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB E";
+            }
+        };
+
+        // 0x94 - SUB H
+        table[0x94] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getH(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB H";
+            }
+        };
+
+        // 0x95 - SUB L
+        table[0x95] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getL(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB L";
+            }
+        };
+
+        // 0x96 - SUB (HL)
+        table[0x96] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SUB (HL)";
+            }
+        };
+
+        // 0x97 - SUB A
+        table[0x97] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getA(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SUB A";
+            }
+        };
+
+        // 0x98 - SBC A, B
+        table[0x98] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getB(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, B";
+            }
+        };
+
+        // 0x99 - SBC A, C
+        table[0x99] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getC(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, C";
+            }
+        };
+
+        // 0x9A - SBC A, D
+        table[0x9A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getD(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, D";
+            }
+        };
+
+        // 0x9B - SBC A, E
+        table[0x9B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getE(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, E";
+            }
+        };
+
+        // 0x9C - SBC A, H
+        table[0x9C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getH(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, H";
+            }
+        };
+
+        // 0x9D - SBC A, L
+        table[0x9D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getL(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, L";
+            }
+        };
+
+        // 0x9E - SBC A, (HL)
+        table[0x9E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, (HL)";
+            }
+        };
+
+        // 0x9F - SBC A, A
+        table[0x9F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getA(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, A";
+            }
+        };
+
+        // 0xA0 - AND B
+        table[0xA0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND B";
+            }
+        };
+
+        // 0xA1 - AND C
+        table[0xA1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND C";
+            }
+        };
+
+        // 0xA2 - AND D
+        table[0xA2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND D";
+            }
+        };
+
+        // 0xA3 - AND E
+        table[0xA3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND E";
+            }
+        };
+
+        // 0xA4 - AND H
+        table[0xA4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND H";
+            }
+        };
+
+        // 0xA5 - AND L
+        table[0xA5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND L";
+            }
+        };
+
+        // 0xA6 - AND (HL)
+        table[0xA6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = cpu.getA() & (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "AND (HL)";
+            }
+        };
+
+        // 0xA7 - AND A
+        table[0xA7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "AND A";
+            }
+        };
+
+        // 0xA8 - XOR B
+        table[0xA8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR B";
+            }
+        };
+
+        // 0xA9 - XOR C
+        table[0xA9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR C";
+            }
+        };
+
+        // 0xAA - XOR D
+        table[0xAA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR D";
+            }
+        };
+
+        // 0xAB - XOR E
+        table[0xAB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR E";
+            }
+        };
+
+        // 0xAC - XOR H
+        table[0xAC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR H";
+            }
+        };
+
+        // 0xAD - XOR L
+        table[0xAD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR L";
+            }
+        };
+
+        // 0xAE - XOR (HL)
+        table[0xAE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = cpu.getA() ^ (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "XOR (HL)";
+            }
+        };
+
+        // 0xAF - XOR A
+        table[0xAF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "XOR A";
+            }
+        };
+
+        // 0xB0 - OR B
+        table[0xB0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR B";
+            }
+        };
+
+        // 0xB1 - OR C
+        table[0xB1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR C";
+            }
+        };
+
+        // 0xB2 - OR D
+        table[0xB2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR D";
+            }
+        };
+
+        // 0xB3 - OR E
+        table[0xB3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR E";
+            }
+        };
+
+        // 0xB4 - OR H
+        table[0xB4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR H";
+            }
+        };
+
+        // 0xB5 - OR L
+        table[0xB5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR L";
+            }
+        };
+
+        // 0xB6 - OR (HL)
+        table[0xB6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = cpu.getA() | (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "OR (HL)";
+            }
+        };
+
+        // 0xB7 - OR A
+        table[0xB7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "OR A";
+            }
+        };
+
+        // 0xB8 - CP B
+        table[0xB8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getB(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP B";
+            }
+        };
+
+        // 0xB9 - CP C
+        table[0xB9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getC(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP C";
+            }
+        };
+
+        // 0xBA - CP D
+        table[0xBA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getD(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP D";
+            }
+        };
+
+        // 0xBB - CP E
+        table[0xBB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getE(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP E";
+            }
+        };
+
+        // 0xBC - CP H
+        table[0xBC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getH(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP H";
+            }
+        };
+
+        // 0xBD - CP L
+        table[0xBD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getL(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP L";
+            }
+        };
+
+        // 0xBE - CP (HL)
+        table[0xBE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "CP (HL)";
+            }
+        };
+
+        // 0xBF - CP A
+        table[0xBF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.getA(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "CP A";
+            }
+        };
+
+        // 0xC0 - RET NZ
+        table[0xC0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                if (!cpu.isZ()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "RET NZ";
+            }
+        };
+
+        // 0xC1 - POP BC
+        table[0xC1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setBC(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "POP BC";
+            }
+        };
+
+        // 0xC2 - JP NZ, a16
+        table[0xC2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isZ()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JP NZ, a16";
+            }
+        };
+
+        // 0xC3 - JP a16
+        table[0xC3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "JP a16";
+            }
+        };
+
+        // 0xC4 - CALL NZ, a16
+        table[0xC4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isZ()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "CALL NZ, a16";
+            }
+        };
+
+        // 0xC5 - PUSH BC
+        table[0xC5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getBC());
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "PUSH BC";
+            }
+        };
+
+        // 0xC6 - ADD A, d8
+        table[0xC6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADD A, d8";
+            }
+        };
+
+        // 0xC7 - RST 00H
+        table[0xC7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x00);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 00H";
+            }
+        };
+
+        // 0xC8 - RET Z
+        table[0xC8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                if (cpu.isZ()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "RET Z";
+            }
+        };
+
+        // 0xC9 - RET
+        table[0xC9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RET";
+            }
+        };
+
+        // 0xCA - JP Z, a16
+        table[0xCA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isZ()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JP Z, a16";
+            }
+        };
+
+        // 0xCB - PREFIX CB
+        table[0xCB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.incCycles(4);
+                throw new RuntimeException("something has gone very wrong, executed 0xCB");
+            }
+
+            @Override
+            public String name() {
+                return "PREFIX CB";
+            }
+        };
+
+        // 0xCC - CALL Z, a16
+        table[0xCC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isZ()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "CALL Z, a16";
+            }
+        };
+
+        // 0xCD - CALL a16
+        table[0xCD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.push16(cpu.getPC());
+                cpu.setPC(nn);
+                cpu.incCycles(24);
+            }
+
+            @Override
+            public String name() {
+                return "CALL a16";
+            }
+        };
+
+        // 0xCE - ADC A, d8
+        table[0xCE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.add(cpu.getA(), cpu.fetch8() & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "ADC A, d8";
+            }
+        };
+
+        // 0xCF - RST 08H
+        table[0xCF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x08);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 08H";
+            }
+        };
+
+        // 0xD0 - RET NC
+        table[0xD0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                if (!cpu.isC()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "RET NC";
+            }
+        };
+
+        // 0xD1 - POP DE
+        table[0xD1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setDE(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "POP DE";
+            }
+        };
+
+        // 0xD2 - JP NC, a16
+        table[0xD2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isC()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JP NC, a16";
+            }
+        };
+
+        // 0xD3 - UNUSED
+        table[0xD3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xD3");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xD4 - CALL NC, a16
+        table[0xD4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isC()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "CALL NC, a16";
+            }
+        };
+
+        // 0xD5 - PUSH DE
+        table[0xD5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getDE());
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "PUSH DE";
+            }
+        };
+
+        // 0xD6 - SUB d8
+        table[0xD6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SUB d8";
+            }
+        };
+
+        // 0xD7 - RST 10H
+        table[0xD7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x10);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 10H";
+            }
+        };
+
+        // 0xD8 - RET C
+        table[0xD8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                if (cpu.isC()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "RET C";
+            }
+        };
+
+        // 0xD9 - RETI
+        table[0xD9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.enableInterrupts();
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RETI";
+            }
+        };
+
+        // 0xDA - JP C, a16
+        table[0xDA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isC()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "JP C, a16";
+            }
+        };
+
+        // 0xDB - UNUSED
+        table[0xDB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xDB");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xDC - CALL C, a16
+        table[0xDC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isC()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "CALL C, a16";
+            }
+        };
+
+        // 0xDD - UNUSED
+        table[0xDD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xDD");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xDE - SBC A, d8
+        table[0xDE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SBC A, d8";
+            }
+        };
+
+        // 0xDF - RST 18H
+        table[0xDF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x18);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 18H";
+            }
+        };
+
+        // 0xE0 - LDH (a8), A
+        table[0xE0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int addr = 0xFF00 | (cpu.fetch8() & 0xFF);
+                cpu.write8(addr, cpu.getA());
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LDH (a8), A";
+            }
+        };
+
+        // 0xE1 - POP HL
+        table[0xE1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setHL(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "POP HL";
+            }
+        };
+
+        // 0xE2 - LD (C), A
+        table[0xE2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.write8(0xFF00 | cpu.getC(), cpu.getA());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD (C), A";
+            }
+        };
+
+        // 0xE3 - UNUSED
+        table[0xE3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xE3");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xE4 - UNUSED
+        table[0xE4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xE4");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xE5 - PUSH HL
+        table[0xE5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getHL());
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "PUSH HL";
+            }
+        };
+
+        // 0xE6 - AND d8
+        table[0xE6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() & (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "AND d8";
+            }
+        };
+
+        // 0xE7 - RST 20H
+        table[0xE7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x20);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 20H";
+            }
+        };
+
+        // 0xE8 - ADD SP, r8
+        table[0xE8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int sp = cpu.getSP();
+                int e = cpu.fetch8();
+                cpu.setSP(sp + e);
+                cpu.setFlags(((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "ADD SP, r8";
+            }
+        };
+
+        // 0xE9 - JP HL
+        table[0xE9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setPC(cpu.getHL());
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "JP HL";
+            }
+        };
+
+        // 0xEA - LD (a16), A
+        table[0xEA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.write8(addr, cpu.getA());
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "LD (a16), A";
+            }
+        };
+
+        // 0xEB - UNUSED
+        table[0xEB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xEB");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xEC - UNUSED
+        table[0xEC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xEC");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xED - UNUSED
+        table[0xED] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xED");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xEE - XOR d8
+        table[0xEE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() ^ (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "XOR d8";
+            }
+        };
+
+        // 0xEF - RST 28H
+        table[0xEF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x28);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 28H";
+            }
+        };
+
+        // 0xF0 - LDH A, (a8)
+        table[0xF0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int addr = 0xFF00 | (cpu.fetch8() & 0xFF);
+                cpu.setA(cpu.read8(addr) & 0xFF);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LDH A, (a8)";
+            }
+        };
+
+        // 0xF1 - POP AF
+        table[0xF1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setAF(nn);
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "POP AF";
+            }
+        };
+
+        // 0xF2 - LD A, (C)
+        table[0xF2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.read8(0xFF00 | cpu.getC()) & 0xFF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (C)";
+            }
+        };
+
+        // 0xF3 - DI
+        table[0xF3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.disableInterrupts();
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "DI";
+            }
+        };
+
+        // 0xF4 - UNUSED
+        table[0xF4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xF4");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xF5 - PUSH AF
+        table[0xF5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getAF());
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "PUSH AF";
+            }
+        };
+
+        // 0xF6 - OR d8
+        table[0xF6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = cpu.getA() | (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "OR d8";
+            }
+        };
+
+        // 0xF7 - RST 30H
+        table[0xF7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x30);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 30H";
+            }
+        };
+
+        // 0xF8 - LD HL, SP+r8
+        table[0xF8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int sp = cpu.getSP();
+                int e = cpu.fetch8();
+                cpu.setHL(sp + e);
+                cpu.setFlags(((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "LD HL, SP+r8";
+            }
+        };
+
+        // 0xF9 - LD SP, HL
+        table[0xF9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setSP(cpu.getHL());
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "LD SP, HL";
+            }
+        };
+
+        // 0xFA - LD A, (a16)
+        table[0xFA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setA(cpu.read8(addr) & 0xFF);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "LD A, (a16)";
+            }
+        };
+
+        // 0xFB - EI
+        table[0xFB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.enableInterrupts();
+                cpu.incCycles(4);
+            }
+
+            @Override
+            public String name() {
+                return "EI";
+            }
+        };
+
+        // 0xFC - UNUSED
+        table[0xFC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xFC");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xFD - UNUSED
+        table[0xFD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                throw new RuntimeException("Unused opcode 0xFD");
+            }
+
+            @Override
+            public String name() {
+                return "UNUSED";
+            }
+        };
+
+        // 0xFE - CP d8
+        table[0xFE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "CP d8";
+            }
+        };
+
+        // 0xFF - RST 38H
+        table[0xFF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x38);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RST 38H";
+            }
+        };
+
+        return table;
+    }
+
+    static Instruction[] cbHandlers() {
+        Instruction[] table = new Instruction[256];
+
+        // CB 0x00 - RLC B
+        table[0x00] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC B";
+            }
+        };
+
+        // CB 0x01 - RLC C
+        table[0x01] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC C";
+            }
+        };
+
+        // CB 0x02 - RLC D
+        table[0x02] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC D";
+            }
+        };
+
+        // CB 0x03 - RLC E
+        table[0x03] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC E";
+            }
+        };
+
+        // CB 0x04 - RLC H
+        table[0x04] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC H";
+            }
+        };
+
+        // CB 0x05 - RLC L
+        table[0x05] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC L";
+            }
+        };
+
+        // CB 0x06 - RLC (HL)
+        table[0x06] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v << 1) | (v >>> 7);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RLC (HL)";
+            }
+        };
+
+        // CB 0x07 - RLC A
+        table[0x07] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RLC A";
+            }
+        };
+
+        // CB 0x08 - RRC B
+        table[0x08] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC B";
+            }
+        };
+
+        // CB 0x09 - RRC C
+        table[0x09] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC C";
+            }
+        };
+
+        // CB 0x0A - RRC D
+        table[0x0A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC D";
+            }
+        };
+
+        // CB 0x0B - RRC E
+        table[0x0B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC E";
+            }
+        };
+
+        // CB 0x0C - RRC H
+        table[0x0C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC H";
+            }
+        };
+
+        // CB 0x0D - RRC L
+        table[0x0D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC L";
+            }
+        };
+
+        // CB 0x0E - RRC (HL)
+        table[0x0E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (v << 7);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RRC (HL)";
+            }
+        };
+
+        // CB 0x0F - RRC A
+        table[0x0F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RRC A";
+            }
+        };
+
+        // CB 0x10 - RL B
+        table[0x10] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL B";
+            }
+        };
+
+        // CB 0x11 - RL C
+        table[0x11] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL C";
+            }
+        };
+
+        // CB 0x12 - RL D
+        table[0x12] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL D";
+            }
+        };
+
+        // CB 0x13 - RL E
+        table[0x13] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL E";
+            }
+        };
+
+        // CB 0x14 - RL H
+        table[0x14] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL H";
+            }
+        };
+
+        // CB 0x15 - RL L
+        table[0x15] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL L";
+            }
+        };
+
+        // CB 0x16 - RL (HL)
+        table[0x16] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RL (HL)";
+            }
+        };
+
+        // CB 0x17 - RL A
+        table[0x17] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RL A";
+            }
+        };
+
+        // CB 0x18 - RR B
+        table[0x18] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR B";
+            }
+        };
+
+        // CB 0x19 - RR C
+        table[0x19] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR C";
+            }
+        };
+
+        // CB 0x1A - RR D
+        table[0x1A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR D";
+            }
+        };
+
+        // CB 0x1B - RR E
+        table[0x1B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR E";
+            }
+        };
+
+        // CB 0x1C - RR H
+        table[0x1C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR H";
+            }
+        };
+
+        // CB 0x1D - RR L
+        table[0x1D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR L";
+            }
+        };
+
+        // CB 0x1E - RR (HL)
+        table[0x1E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RR (HL)";
+            }
+        };
+
+        // CB 0x1F - RR A
+        table[0x1F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RR A";
+            }
+        };
+
+        // CB 0x20 - SLA B
+        table[0x20] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = v << 1;
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA B";
+            }
+        };
+
+        // CB 0x21 - SLA C
+        table[0x21] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = v << 1;
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA C";
+            }
+        };
+
+        // CB 0x22 - SLA D
+        table[0x22] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = v << 1;
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA D";
+            }
+        };
+
+        // CB 0x23 - SLA E
+        table[0x23] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = v << 1;
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA E";
+            }
+        };
+
+        // CB 0x24 - SLA H
+        table[0x24] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = v << 1;
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA H";
+            }
+        };
+
+        // CB 0x25 - SLA L
+        table[0x25] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = v << 1;
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA L";
+            }
+        };
+
+        // CB 0x26 - SLA (HL)
+        table[0x26] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = v << 1;
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SLA (HL)";
+            }
+        };
+
+        // CB 0x27 - SLA A
+        table[0x27] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = v << 1;
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SLA A";
+            }
+        };
+
+        // CB 0x28 - SRA B
+        table[0x28] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA B";
+            }
+        };
+
+        // CB 0x29 - SRA C
+        table[0x29] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA C";
+            }
+        };
+
+        // CB 0x2A - SRA D
+        table[0x2A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA D";
+            }
+        };
+
+        // CB 0x2B - SRA E
+        table[0x2B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA E";
+            }
+        };
+
+        // CB 0x2C - SRA H
+        table[0x2C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA H";
+            }
+        };
+
+        // CB 0x2D - SRA L
+        table[0x2D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA L";
+            }
+        };
+
+        // CB 0x2E - SRA (HL)
+        table[0x2E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SRA (HL)";
+            }
+        };
+
+        // CB 0x2F - SRA A
+        table[0x2F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRA A";
+            }
+        };
+
+        // CB 0x30 - SWAP B
+        table[0x30] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setB(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP B";
+            }
+        };
+
+        // CB 0x31 - SWAP C
+        table[0x31] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setC(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP C";
+            }
+        };
+
+        // CB 0x32 - SWAP D
+        table[0x32] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setD(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP D";
+            }
+        };
+
+        // CB 0x33 - SWAP E
+        table[0x33] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setE(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP E";
+            }
+        };
+
+        // CB 0x34 - SWAP H
+        table[0x34] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setH(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP H";
+            }
+        };
+
+        // CB 0x35 - SWAP L
+        table[0x35] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setL(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP L";
+            }
+        };
+
+        // CB 0x36 - SWAP (HL)
+        table[0x36] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.write8(hl, r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP (HL)";
+            }
+        };
+
+        // CB 0x37 - SWAP A
+        table[0x37] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SWAP A";
+            }
+        };
+
+        // CB 0x38 - SRL B
+        table[0x38] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                int r = v >>> 1;
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL B";
+            }
+        };
+
+        // CB 0x39 - SRL C
+        table[0x39] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                int r = v >>> 1;
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL C";
+            }
+        };
+
+        // CB 0x3A - SRL D
+        table[0x3A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                int r = v >>> 1;
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL D";
+            }
+        };
+
+        // CB 0x3B - SRL E
+        table[0x3B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                int r = v >>> 1;
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL E";
+            }
+        };
+
+        // CB 0x3C - SRL H
+        table[0x3C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                int r = v >>> 1;
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL H";
+            }
+        };
+
+        // CB 0x3D - SRL L
+        table[0x3D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                int r = v >>> 1;
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL L";
+            }
+        };
+
+        // CB 0x3E - SRL (HL)
+        table[0x3E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = v >>> 1;
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SRL (HL)";
+            }
+        };
+
+        // CB 0x3F - SRL A
+        table[0x3F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                int r = v >>> 1;
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SRL A";
+            }
+        };
+
+        // CB 0x40 - BIT 0, B
+        table[0x40] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, B";
+            }
+        };
+
+        // CB 0x41 - BIT 0, C
+        table[0x41] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, C";
+            }
+        };
+
+        // CB 0x42 - BIT 0, D
+        table[0x42] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, D";
+            }
+        };
+
+        // CB 0x43 - BIT 0, E
+        table[0x43] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, E";
+            }
+        };
+
+        // CB 0x44 - BIT 0, H
+        table[0x44] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, H";
+            }
+        };
+
+        // CB 0x45 - BIT 0, L
+        table[0x45] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, L";
+            }
+        };
+
+        // CB 0x46 - BIT 0, (HL)
+        table[0x46] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, (HL)";
+            }
+        };
+
+        // CB 0x47 - BIT 0, A
+        table[0x47] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 0, A";
+            }
+        };
+
+        // CB 0x48 - BIT 1, B
+        table[0x48] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, B";
+            }
+        };
+
+        // CB 0x49 - BIT 1, C
+        table[0x49] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, C";
+            }
+        };
+
+        // CB 0x4A - BIT 1, D
+        table[0x4A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, D";
+            }
+        };
+
+        // CB 0x4B - BIT 1, E
+        table[0x4B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, E";
+            }
+        };
+
+        // CB 0x4C - BIT 1, H
+        table[0x4C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, H";
+            }
+        };
+
+        // CB 0x4D - BIT 1, L
+        table[0x4D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, L";
+            }
+        };
+
+        // CB 0x4E - BIT 1, (HL)
+        table[0x4E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, (HL)";
+            }
+        };
+
+        // CB 0x4F - BIT 1, A
+        table[0x4F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 1, A";
+            }
+        };
+
+        // CB 0x50 - BIT 2, B
+        table[0x50] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, B";
+            }
+        };
+
+        // CB 0x51 - BIT 2, C
+        table[0x51] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, C";
+            }
+        };
+
+        // CB 0x52 - BIT 2, D
+        table[0x52] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, D";
+            }
+        };
+
+        // CB 0x53 - BIT 2, E
+        table[0x53] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, E";
+            }
+        };
+
+        // CB 0x54 - BIT 2, H
+        table[0x54] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, H";
+            }
+        };
+
+        // CB 0x55 - BIT 2, L
+        table[0x55] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, L";
+            }
+        };
+
+        // CB 0x56 - BIT 2, (HL)
+        table[0x56] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, (HL)";
+            }
+        };
+
+        // CB 0x57 - BIT 2, A
+        table[0x57] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 2, A";
+            }
+        };
+
+        // CB 0x58 - BIT 3, B
+        table[0x58] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, B";
+            }
+        };
+
+        // CB 0x59 - BIT 3, C
+        table[0x59] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, C";
+            }
+        };
+
+        // CB 0x5A - BIT 3, D
+        table[0x5A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, D";
+            }
+        };
+
+        // CB 0x5B - BIT 3, E
+        table[0x5B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, E";
+            }
+        };
+
+        // CB 0x5C - BIT 3, H
+        table[0x5C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, H";
+            }
+        };
+
+        // CB 0x5D - BIT 3, L
+        table[0x5D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, L";
+            }
+        };
+
+        // CB 0x5E - BIT 3, (HL)
+        table[0x5E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, (HL)";
+            }
+        };
+
+        // CB 0x5F - BIT 3, A
+        table[0x5F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 3, A";
+            }
+        };
+
+        // CB 0x60 - BIT 4, B
+        table[0x60] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, B";
+            }
+        };
+
+        // CB 0x61 - BIT 4, C
+        table[0x61] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, C";
+            }
+        };
+
+        // CB 0x62 - BIT 4, D
+        table[0x62] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, D";
+            }
+        };
+
+        // CB 0x63 - BIT 4, E
+        table[0x63] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, E";
+            }
+        };
+
+        // CB 0x64 - BIT 4, H
+        table[0x64] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, H";
+            }
+        };
+
+        // CB 0x65 - BIT 4, L
+        table[0x65] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, L";
+            }
+        };
+
+        // CB 0x66 - BIT 4, (HL)
+        table[0x66] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, (HL)";
+            }
+        };
+
+        // CB 0x67 - BIT 4, A
+        table[0x67] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 4, A";
+            }
+        };
+
+        // CB 0x68 - BIT 5, B
+        table[0x68] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, B";
+            }
+        };
+
+        // CB 0x69 - BIT 5, C
+        table[0x69] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, C";
+            }
+        };
+
+        // CB 0x6A - BIT 5, D
+        table[0x6A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, D";
+            }
+        };
+
+        // CB 0x6B - BIT 5, E
+        table[0x6B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, E";
+            }
+        };
+
+        // CB 0x6C - BIT 5, H
+        table[0x6C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, H";
+            }
+        };
+
+        // CB 0x6D - BIT 5, L
+        table[0x6D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, L";
+            }
+        };
+
+        // CB 0x6E - BIT 5, (HL)
+        table[0x6E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, (HL)";
+            }
+        };
+
+        // CB 0x6F - BIT 5, A
+        table[0x6F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 5, A";
+            }
+        };
+
+        // CB 0x70 - BIT 6, B
+        table[0x70] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, B";
+            }
+        };
+
+        // CB 0x71 - BIT 6, C
+        table[0x71] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, C";
+            }
+        };
+
+        // CB 0x72 - BIT 6, D
+        table[0x72] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, D";
+            }
+        };
+
+        // CB 0x73 - BIT 6, E
+        table[0x73] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, E";
+            }
+        };
+
+        // CB 0x74 - BIT 6, H
+        table[0x74] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, H";
+            }
+        };
+
+        // CB 0x75 - BIT 6, L
+        table[0x75] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, L";
+            }
+        };
+
+        // CB 0x76 - BIT 6, (HL)
+        table[0x76] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, (HL)";
+            }
+        };
+
+        // CB 0x77 - BIT 6, A
+        table[0x77] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 6, A";
+            }
+        };
+
+        // CB 0x78 - BIT 7, B
+        table[0x78] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, B";
+            }
+        };
+
+        // CB 0x79 - BIT 7, C
+        table[0x79] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, C";
+            }
+        };
+
+        // CB 0x7A - BIT 7, D
+        table[0x7A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, D";
+            }
+        };
+
+        // CB 0x7B - BIT 7, E
+        table[0x7B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, E";
+            }
+        };
+
+        // CB 0x7C - BIT 7, H
+        table[0x7C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, H";
+            }
+        };
+
+        // CB 0x7D - BIT 7, L
+        table[0x7D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, L";
+            }
+        };
+
+        // CB 0x7E - BIT 7, (HL)
+        table[0x7E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, (HL)";
+            }
+        };
+
+        // CB 0x7F - BIT 7, A
+        table[0x7F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "BIT 7, A";
+            }
+        };
+
+        // CB 0x80 - RES 0, B
+        table[0x80] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, B";
+            }
+        };
+
+        // CB 0x81 - RES 0, C
+        table[0x81] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, C";
+            }
+        };
+
+        // CB 0x82 - RES 0, D
+        table[0x82] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, D";
+            }
+        };
+
+        // CB 0x83 - RES 0, E
+        table[0x83] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, E";
+            }
+        };
+
+        // CB 0x84 - RES 0, H
+        table[0x84] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, H";
+            }
+        };
+
+        // CB 0x85 - RES 0, L
+        table[0x85] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, L";
+            }
+        };
+
+        // CB 0x86 - RES 0, (HL)
+        table[0x86] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFE);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, (HL)";
+            }
+        };
+
+        // CB 0x87 - RES 0, A
+        table[0x87] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xFE);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 0, A";
+            }
+        };
+
+        // CB 0x88 - RES 1, B
+        table[0x88] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, B";
+            }
+        };
+
+        // CB 0x89 - RES 1, C
+        table[0x89] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, C";
+            }
+        };
+
+        // CB 0x8A - RES 1, D
+        table[0x8A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, D";
+            }
+        };
+
+        // CB 0x8B - RES 1, E
+        table[0x8B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, E";
+            }
+        };
+
+        // CB 0x8C - RES 1, H
+        table[0x8C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, H";
+            }
+        };
+
+        // CB 0x8D - RES 1, L
+        table[0x8D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, L";
+            }
+        };
+
+        // CB 0x8E - RES 1, (HL)
+        table[0x8E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFD);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, (HL)";
+            }
+        };
+
+        // CB 0x8F - RES 1, A
+        table[0x8F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xFD);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 1, A";
+            }
+        };
+
+        // CB 0x90 - RES 2, B
+        table[0x90] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, B";
+            }
+        };
+
+        // CB 0x91 - RES 2, C
+        table[0x91] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, C";
+            }
+        };
+
+        // CB 0x92 - RES 2, D
+        table[0x92] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, D";
+            }
+        };
+
+        // CB 0x93 - RES 2, E
+        table[0x93] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, E";
+            }
+        };
+
+        // CB 0x94 - RES 2, H
+        table[0x94] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, H";
+            }
+        };
+
+        // CB 0x95 - RES 2, L
+        table[0x95] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, L";
+            }
+        };
+
+        // CB 0x96 - RES 2, (HL)
+        table[0x96] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFB);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, (HL)";
+            }
+        };
+
+        // CB 0x97 - RES 2, A
+        table[0x97] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xFB);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 2, A";
+            }
+        };
+
+        // CB 0x98 - RES 3, B
+        table[0x98] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, B";
+            }
+        };
+
+        // CB 0x99 - RES 3, C
+        table[0x99] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, C";
+            }
+        };
+
+        // CB 0x9A - RES 3, D
+        table[0x9A] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, D";
+            }
+        };
+
+        // CB 0x9B - RES 3, E
+        table[0x9B] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, E";
+            }
+        };
+
+        // CB 0x9C - RES 3, H
+        table[0x9C] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, H";
+            }
+        };
+
+        // CB 0x9D - RES 3, L
+        table[0x9D] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, L";
+            }
+        };
+
+        // CB 0x9E - RES 3, (HL)
+        table[0x9E] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xF7);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, (HL)";
+            }
+        };
+
+        // CB 0x9F - RES 3, A
+        table[0x9F] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xF7);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 3, A";
+            }
+        };
+
+        // CB 0xA0 - RES 4, B
+        table[0xA0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, B";
+            }
+        };
+
+        // CB 0xA1 - RES 4, C
+        table[0xA1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, C";
+            }
+        };
+
+        // CB 0xA2 - RES 4, D
+        table[0xA2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, D";
+            }
+        };
+
+        // CB 0xA3 - RES 4, E
+        table[0xA3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, E";
+            }
+        };
+
+        // CB 0xA4 - RES 4, H
+        table[0xA4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, H";
+            }
+        };
+
+        // CB 0xA5 - RES 4, L
+        table[0xA5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, L";
+            }
+        };
+
+        // CB 0xA6 - RES 4, (HL)
+        table[0xA6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xEF);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, (HL)";
+            }
+        };
+
+        // CB 0xA7 - RES 4, A
+        table[0xA7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xEF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 4, A";
+            }
+        };
+
+        // CB 0xA8 - RES 5, B
+        table[0xA8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, B";
+            }
+        };
+
+        // CB 0xA9 - RES 5, C
+        table[0xA9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, C";
+            }
+        };
+
+        // CB 0xAA - RES 5, D
+        table[0xAA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, D";
+            }
+        };
+
+        // CB 0xAB - RES 5, E
+        table[0xAB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, E";
+            }
+        };
+
+        // CB 0xAC - RES 5, H
+        table[0xAC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, H";
+            }
+        };
+
+        // CB 0xAD - RES 5, L
+        table[0xAD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, L";
+            }
+        };
+
+        // CB 0xAE - RES 5, (HL)
+        table[0xAE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xDF);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, (HL)";
+            }
+        };
+
+        // CB 0xAF - RES 5, A
+        table[0xAF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xDF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 5, A";
+            }
+        };
+
+        // CB 0xB0 - RES 6, B
+        table[0xB0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, B";
+            }
+        };
+
+        // CB 0xB1 - RES 6, C
+        table[0xB1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, C";
+            }
+        };
+
+        // CB 0xB2 - RES 6, D
+        table[0xB2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, D";
+            }
+        };
+
+        // CB 0xB3 - RES 6, E
+        table[0xB3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, E";
+            }
+        };
+
+        // CB 0xB4 - RES 6, H
+        table[0xB4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, H";
+            }
+        };
+
+        // CB 0xB5 - RES 6, L
+        table[0xB5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, L";
+            }
+        };
+
+        // CB 0xB6 - RES 6, (HL)
+        table[0xB6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xBF);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, (HL)";
+            }
+        };
+
+        // CB 0xB7 - RES 6, A
+        table[0xB7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0xBF);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 6, A";
+            }
+        };
+
+        // CB 0xB8 - RES 7, B
+        table[0xB8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, B";
+            }
+        };
+
+        // CB 0xB9 - RES 7, C
+        table[0xB9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, C";
+            }
+        };
+
+        // CB 0xBA - RES 7, D
+        table[0xBA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, D";
+            }
+        };
+
+        // CB 0xBB - RES 7, E
+        table[0xBB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, E";
+            }
+        };
+
+        // CB 0xBC - RES 7, H
+        table[0xBC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, H";
+            }
+        };
+
+        // CB 0xBD - RES 7, L
+        table[0xBD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, L";
+            }
+        };
+
+        // CB 0xBE - RES 7, (HL)
+        table[0xBE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0x7F);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, (HL)";
+            }
+        };
+
+        // CB 0xBF - RES 7, A
+        table[0xBF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() & 0x7F);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "RES 7, A";
+            }
+        };
+
+        // CB 0xC0 - SET 0, B
+        table[0xC0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, B";
+            }
+        };
+
+        // CB 0xC1 - SET 0, C
+        table[0xC1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, C";
+            }
+        };
+
+        // CB 0xC2 - SET 0, D
+        table[0xC2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, D";
+            }
+        };
+
+        // CB 0xC3 - SET 0, E
+        table[0xC3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, E";
+            }
+        };
+
+        // CB 0xC4 - SET 0, H
+        table[0xC4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, H";
+            }
+        };
+
+        // CB 0xC5 - SET 0, L
+        table[0xC5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, L";
+            }
+        };
+
+        // CB 0xC6 - SET 0, (HL)
+        table[0xC6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x01);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, (HL)";
+            }
+        };
+
+        // CB 0xC7 - SET 0, A
+        table[0xC7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x01);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 0, A";
+            }
+        };
+
+        // CB 0xC8 - SET 1, B
+        table[0xC8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, B";
+            }
+        };
+
+        // CB 0xC9 - SET 1, C
+        table[0xC9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, C";
+            }
+        };
+
+        // CB 0xCA - SET 1, D
+        table[0xCA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, D";
+            }
+        };
+
+        // CB 0xCB - SET 1, E
+        table[0xCB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, E";
+            }
+        };
+
+        // CB 0xCC - SET 1, H
+        table[0xCC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, H";
+            }
+        };
+
+        // CB 0xCD - SET 1, L
+        table[0xCD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, L";
+            }
+        };
+
+        // CB 0xCE - SET 1, (HL)
+        table[0xCE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x02);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, (HL)";
+            }
+        };
+
+        // CB 0xCF - SET 1, A
+        table[0xCF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x02);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 1, A";
+            }
+        };
+
+        // CB 0xD0 - SET 2, B
+        table[0xD0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, B";
+            }
+        };
+
+        // CB 0xD1 - SET 2, C
+        table[0xD1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, C";
+            }
+        };
+
+        // CB 0xD2 - SET 2, D
+        table[0xD2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, D";
+            }
+        };
+
+        // CB 0xD3 - SET 2, E
+        table[0xD3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, E";
+            }
+        };
+
+        // CB 0xD4 - SET 2, H
+        table[0xD4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, H";
+            }
+        };
+
+        // CB 0xD5 - SET 2, L
+        table[0xD5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, L";
+            }
+        };
+
+        // CB 0xD6 - SET 2, (HL)
+        table[0xD6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x04);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, (HL)";
+            }
+        };
+
+        // CB 0xD7 - SET 2, A
+        table[0xD7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x04);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 2, A";
+            }
+        };
+
+        // CB 0xD8 - SET 3, B
+        table[0xD8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, B";
+            }
+        };
+
+        // CB 0xD9 - SET 3, C
+        table[0xD9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, C";
+            }
+        };
+
+        // CB 0xDA - SET 3, D
+        table[0xDA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, D";
+            }
+        };
+
+        // CB 0xDB - SET 3, E
+        table[0xDB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, E";
+            }
+        };
+
+        // CB 0xDC - SET 3, H
+        table[0xDC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, H";
+            }
+        };
+
+        // CB 0xDD - SET 3, L
+        table[0xDD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, L";
+            }
+        };
+
+        // CB 0xDE - SET 3, (HL)
+        table[0xDE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x08);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, (HL)";
+            }
+        };
+
+        // CB 0xDF - SET 3, A
+        table[0xDF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x08);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 3, A";
+            }
+        };
+
+        // CB 0xE0 - SET 4, B
+        table[0xE0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, B";
+            }
+        };
+
+        // CB 0xE1 - SET 4, C
+        table[0xE1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, C";
+            }
+        };
+
+        // CB 0xE2 - SET 4, D
+        table[0xE2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, D";
+            }
+        };
+
+        // CB 0xE3 - SET 4, E
+        table[0xE3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, E";
+            }
+        };
+
+        // CB 0xE4 - SET 4, H
+        table[0xE4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, H";
+            }
+        };
+
+        // CB 0xE5 - SET 4, L
+        table[0xE5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, L";
+            }
+        };
+
+        // CB 0xE6 - SET 4, (HL)
+        table[0xE6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x10);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, (HL)";
+            }
+        };
+
+        // CB 0xE7 - SET 4, A
+        table[0xE7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x10);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 4, A";
+            }
+        };
+
+        // CB 0xE8 - SET 5, B
+        table[0xE8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, B";
+            }
+        };
+
+        // CB 0xE9 - SET 5, C
+        table[0xE9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, C";
+            }
+        };
+
+        // CB 0xEA - SET 5, D
+        table[0xEA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, D";
+            }
+        };
+
+        // CB 0xEB - SET 5, E
+        table[0xEB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, E";
+            }
+        };
+
+        // CB 0xEC - SET 5, H
+        table[0xEC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, H";
+            }
+        };
+
+        // CB 0xED - SET 5, L
+        table[0xED] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, L";
+            }
+        };
+
+        // CB 0xEE - SET 5, (HL)
+        table[0xEE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x20);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, (HL)";
+            }
+        };
+
+        // CB 0xEF - SET 5, A
+        table[0xEF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x20);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 5, A";
+            }
+        };
+
+        // CB 0xF0 - SET 6, B
+        table[0xF0] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, B";
+            }
+        };
+
+        // CB 0xF1 - SET 6, C
+        table[0xF1] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, C";
+            }
+        };
+
+        // CB 0xF2 - SET 6, D
+        table[0xF2] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, D";
+            }
+        };
+
+        // CB 0xF3 - SET 6, E
+        table[0xF3] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, E";
+            }
+        };
+
+        // CB 0xF4 - SET 6, H
+        table[0xF4] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, H";
+            }
+        };
+
+        // CB 0xF5 - SET 6, L
+        table[0xF5] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, L";
+            }
+        };
+
+        // CB 0xF6 - SET 6, (HL)
+        table[0xF6] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x40);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, (HL)";
+            }
+        };
+
+        // CB 0xF7 - SET 6, A
+        table[0xF7] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x40);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 6, A";
+            }
+        };
+
+        // CB 0xF8 - SET 7, B
+        table[0xF8] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setB(cpu.getB() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, B";
+            }
+        };
+
+        // CB 0xF9 - SET 7, C
+        table[0xF9] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setC(cpu.getC() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, C";
+            }
+        };
+
+        // CB 0xFA - SET 7, D
+        table[0xFA] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setD(cpu.getD() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, D";
+            }
+        };
+
+        // CB 0xFB - SET 7, E
+        table[0xFB] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setE(cpu.getE() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, E";
+            }
+        };
+
+        // CB 0xFC - SET 7, H
+        table[0xFC] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setH(cpu.getH() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, H";
+            }
+        };
+
+        // CB 0xFD - SET 7, L
+        table[0xFD] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setL(cpu.getL() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, L";
+            }
+        };
+
+        // CB 0xFE - SET 7, (HL)
+        table[0xFE] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x80);
+                cpu.incCycles(16);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, (HL)";
+            }
+        };
+
+        // CB 0xFF - SET 7, A
+        table[0xFF] = new Instruction() {
+            @Override
+            public void execute(Cpu cpu) {
+                cpu.setA(cpu.getA() | 0x80);
+                cpu.incCycles(8);
+            }
+
+            @Override
+            public String name() {
+                return "SET 7, A";
+            }
+        };
+
+        return table;
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+// the state the DMG boot ROM leaves when it hands over to the cartridge at
+// 0x0100 (Pan Docs, "Power Up Sequence"), for consoles that install it instead
+// of running Io.BIOS. The boot ROM's logo and header checksum checks are not
+// replayed, so a cartridge the real one would lock up on starts anyway
+public final class PostBoot {
+    public static final int BC = 0x0013;
+    public static final int DE = 0x00D8;
+    public static final int HL = 0x014D;
+    public static final int SP = 0xFFFE;
+    public static final int PC = 0x0100;
+
+    // the internal 16-bit divider; DIV reads its top byte, 0xAB
+    public static final int DIVIDER = 0xABCC;
+
+    // I/O registers at 0xFF00 + index, -1 where the boot ROM leaves nothing
+    // defined (or the register is read-only). DIV is set through the divider
+    private static final int[] IO = new int[0x100];
+
+    static {
+        Arrays.fill(IO, -1);
+
+        IO[0x00] = 0xCF; // P1
+        IO[0x01] = 0x00; // SB
+        IO[0x02] = 0x7E; // SC
+        IO[0x05] = 0x00; // TIMA
+        IO[0x06] = 0x00; // TMA
+        IO[0x07] = 0xF8; // TAC
+        IO[0x0F] = 0xE1; // IF
+
+        // sound
+        IO[0x10] = 0x80;
+        IO[0x11] = 0xBF;
+        IO[0x12] = 0xF3;
+        IO[0x13] = 0xFF;
+        IO[0x14] = 0xBF;
+        IO[0x16] = 0x3F;
+        IO[0x17] = 0x00;
+        IO[0x18] = 0xFF;
+        IO[0x19] = 0xBF;
+        IO[0x1A] = 0x7F;
+        IO[0x1B] = 0xFF;
+        IO[0x1C] = 0x9F;
+        IO[0x1D] = 0xFF;
+        IO[0x1E] = 0xBF;
+        IO[0x20] = 0xFF;
+        IO[0x21] = 0x00;
+        IO[0x22] = 0x00;
+        IO[0x23] = 0xBF;
+        IO[0x24] = 0x77;
+        IO[0x25] = 0xF3;
+        IO[0x26] = 0xF1;
+
+        // LCD, LY comes from the PPU clock
+        IO[0x40] = 0x91; // LCDC
+        IO[0x41] = 0x85; // STAT
+        IO[0x42] = 0x00; // SCY
+        IO[0x43] = 0x00; // SCX
+        IO[0x45] = 0x00; // LYC
+        IO[0x46] = 0xFF; // DMA
+        IO[0x47] = 0xFC; // BGP
+        IO[0x4A] = 0x00; // WY
+        IO[0x4B] = 0x00; // WX
+
+        IO[0x50] = 0x01; // boot ROM unmapped
+        IO[0xFF] = 0x00; // IE
+    }
+
+    private PostBoot() {
+    }
+
+    public interface Writer {
+        void write(int addr, int value);
+    }
+
+    // A is 0x01; Z is set, and H and C too unless the header checksum is 0x00
+    public static int af(int headerChecksum) {
+        return headerChecksum == 0 ? 0x0180 : 0x01B0;
+    }
+
+    // writes VRAM and the I/O registers; cartridge reads the header the logo
+    // is copied from
+    public static void install(IntUnaryOperator cartridge, Writer memory) {
+        byte[] vram = vram(cartridge);
+        for (int i = 0; i < vram.length; i++) {
+            memory.write(0x8000 + i, vram[i] & 0xFF);
+        }
+        for (int i = 0; i < IO.length; i++) {
+            if (IO[i] >= 0) {
+                memory.write(0xFF00 + i, IO[i]);
+            }
+        }
+    }
+
+    // VRAM as the boot ROM leaves it: cleared, the header logo (0x0104-0x0133)
+    // as tiles 1-24 with every pixel doubled both ways, the (R) mark as tile
+    // 25, and the logo's two rows of tiles in the map at 0x9904 and 0x9924
+    static byte[] vram(IntUnaryOperator cartridge) {
+        byte[] vram = new byte[0x2000];
+
+        int at = 0x0010;
+        for (int i = 0; i < 48; i++) {
+            int logo = cartridge.applyAsInt(0x0104 + i);
+            for (int shift = 4; shift >= 0; shift -= 4) {
+                int row = doubled((logo >> shift) & 0x0F);
+                vram[at] = (byte) row;
+                vram[at + 2] = (byte) row;
+                at += 4;
+            }
+        }
+
+        for (int i = 0; i < 8; i++) {
+            vram[0x0190 + 2 * i] = Io.BIOS[0xD8 + i];
+        }
+
+        for (int i = 0; i < 12; i++) {
+            vram[0x1904 + i] = (byte) (1 + i);
+            vram[0x1924 + i] = (byte) (13 + i);
+        }
+        vram[0x1910] = 0x19;
+        return vram;
+    }
+
+    // each of the 4 bits twice, b3 b3 b2 b2 b1 b1 b0 b0
+    private static int doubled(int nibble) {
+        int row = 0;
+        for (int bit = 3; bit >= 0; bit--) {
+            int b = (nibble >> bit) & 1;
+            row = (row << 2) | (b << 1) | b;
+        }
+        return row;
+    }
+}
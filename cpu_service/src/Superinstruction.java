@@ -0,0 +1,51 @@
+// a short run of instructions a cached block executes in one dispatch (see
+// InstructionDecoder.superinstructions). run() calls the ordinary handlers back
+// to back, so cycles and flags are exactly those of separate steps, and stops
+// early wherever a separate step would have done something else first.
+// runSwitch() is the same on SwitchInterpreter, so each engine only ever runs
+// its own handlers
+public abstract class Superinstruction {
+    public final int id;      // index into the per-console fire counts
+    public final String name;
+    final int[] opcodes;      // the sequence it replaces
+
+    Superinstruction(int id, String name, int[] opcodes) {
+        this.id = id;
+        this.name = name;
+        this.opcodes = opcodes;
+    }
+
+    public int length() {
+        return opcodes.length;
+    }
+
+    // called like a handler, with PC past the first opcode; returns how many of
+    // the instructions ran, with PC at the next one
+    public abstract int run(Cpu cpu);
+
+    // run() for the SWITCH and TIERED engines
+    public final int runSwitch(Cpu cpu) {
+        int last = opcodes.length - 1;
+        for (int k = 0; k < last; k++) {
+            SwitchInterpreter.execute(cpu, opcodes[k]);
+            if (cpu.fusedBreak()) {
+                return k + 1;
+            }
+            cpu.setPC(cpu.getPC() + 1);
+        }
+        SwitchInterpreter.execute(cpu, opcodes[last]);
+        return opcodes.length;
+    }
+
+    boolean matches(int[] ops, int i, int length) {
+        if (i + opcodes.length > length) {
+            return false;
+        }
+        for (int k = 0; k < opcodes.length; k++) {
+            if (ops[i + k] != opcodes[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
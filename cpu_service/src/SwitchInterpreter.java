@@ -0,0 +1,3773 @@
+// generated by gen/OpcodeGen.java from gen/opcodes.txt, do not edit
+//
+// Switch-dispatched execution engine. Runs the same opcode bodies as
+// InstructionDecoder, but as cases of a few static switch methods, so the
+// dispatch site is a tableswitch and each body can be inlined and compiled
+// together with its accessors.
+//
+// The cases are split into several methods because HotSpot refuses to JIT
+// methods over 8000 bytes of bytecode (-XX:-DontCompileHugeMethods).
+public class SwitchInterpreter {
+    public static void execute(Cpu cpu, int opcode) {
+        switch (opcode >>> 6) {
+            case 0: execute00(cpu, opcode); break;
+            case 1: execute40(cpu, opcode); break;
+            case 2: execute80(cpu, opcode); break;
+            default: executeC0(cpu, opcode); break;
+        }
+    }
+
+    public static void executeCB(Cpu cpu, int opcode) {
+        switch (opcode >>> 6) {
+            case 0: executeCB00(cpu, opcode); break;
+            case 1: executeCB40(cpu, opcode); break;
+            case 2: executeCB80(cpu, opcode); break;
+            default: executeCBC0(cpu, opcode); break;
+        }
+    }
+
+    private static void execute00(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x00: { // NOP
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x01: { // LD BC, d16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setBC(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x02: { // LD (BC), A
+                cpu.write8(cpu.getBC(), cpu.getA());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x03: { // INC BC
+                cpu.setBC(cpu.getBC() + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x04: { // INC B
+                int r = Alu.inc(cpu.getB());
+                cpu.setB(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x05: { // DEC B
+                int r = Alu.dec(cpu.getB());
+                cpu.setB(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x06: { // LD B, d8
+                cpu.setB(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x07: { // RLCA
+                int v = cpu.getA();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x08: { // LD (a16), SP
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.write16(addr, cpu.getSP());
+                cpu.incCycles(20);
+                break;
+            }
+
+            case 0x09: { // ADD HL, BC
+                int hl = cpu.getHL();
+                int rr = cpu.getBC();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0A: { // LD A, (BC)
+                cpu.setA(cpu.read8(cpu.getBC()) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0B: { // DEC BC
+                cpu.setBC(cpu.getBC() - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0C: { // INC C
+                int r = Alu.inc(cpu.getC());
+                cpu.setC(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x0D: { // DEC C
+                int r = Alu.dec(cpu.getC());
+                cpu.setC(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x0E: { // LD C, d8
+                cpu.setC(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0F: { // RRCA
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x10: { // STOP d8
+                // skips its operand byte; low-power mode isn't emulated
+                cpu.fetch8();
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x11: { // LD DE, d16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setDE(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x12: { // LD (DE), A
+                cpu.write8(cpu.getDE(), cpu.getA());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x13: { // INC DE
+                cpu.setDE(cpu.getDE() + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x14: { // INC D
+                int r = Alu.inc(cpu.getD());
+                cpu.setD(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x15: { // DEC D
+                int r = Alu.dec(cpu.getD());
+                cpu.setD(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x16: { // LD D, d8
+                cpu.setD(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x17: { // RLA
+                int v = cpu.getA();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x18: { // JR r8
+                int e = cpu.fetch8();
+                cpu.setPC(cpu.getPC() + e);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x19: { // ADD HL, DE
+                int hl = cpu.getHL();
+                int rr = cpu.getDE();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1A: { // LD A, (DE)
+                cpu.setA(cpu.read8(cpu.getDE()) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1B: { // DEC DE
+                cpu.setDE(cpu.getDE() - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1C: { // INC E
+                int r = Alu.inc(cpu.getE());
+                cpu.setE(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x1D: { // DEC E
+                int r = Alu.dec(cpu.getE());
+                cpu.setE(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x1E: { // LD E, d8
+                cpu.setE(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1F: { // RRA
+                int v = cpu.getA();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setA(r);
+                cpu.flagsRotateA(v, r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x20: { // JR NZ, r8
+                int e = cpu.fetch8();
+                if (!cpu.isZ()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0x21: { // LD HL, d16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setHL(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x22: { // LD (HL+), A
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.setHL(hl + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x23: { // INC HL
+                cpu.setHL(cpu.getHL() + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x24: { // INC H
+                int r = Alu.inc(cpu.getH());
+                cpu.setH(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x25: { // DEC H
+                int r = Alu.dec(cpu.getH());
+                cpu.setH(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x26: { // LD H, d8
+                cpu.setH(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x27: { // DAA
+                int r = Alu.daa(cpu.getA(), cpu.getF());
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x28: { // JR Z, r8
+                int e = cpu.fetch8();
+                if (cpu.isZ()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0x29: { // ADD HL, HL
+                int hl = cpu.getHL();
+                int rr = cpu.getHL();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2A: { // LD A, (HL+)
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.setHL(hl + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2B: { // DEC HL
+                cpu.setHL(cpu.getHL() - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2C: { // INC L
+                int r = Alu.inc(cpu.getL());
+                cpu.setL(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x2D: { // DEC L
+                int r = Alu.dec(cpu.getL());
+                cpu.setL(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x2E: { // LD L, d8
+                cpu.setL(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2F: { // CPL
+                cpu.setA(~cpu.getA());
+                cpu.setFlags((cpu.getF() & 0x90) | 0x60);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x30: { // JR NC, r8
+                int e = cpu.fetch8();
+                if (!cpu.isC()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0x31: { // LD SP, d16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setSP(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x32: { // LD (HL-), A
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.setHL(hl - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x33: { // INC SP
+                cpu.setSP(cpu.getSP() + 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x34: { // INC (HL)
+                int hl = cpu.getHL();
+                int r = Alu.inc(cpu.read8(hl) & 0xFF);
+                cpu.write8(hl, r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x35: { // DEC (HL)
+                int hl = cpu.getHL();
+                int r = Alu.dec(cpu.read8(hl) & 0xFF);
+                cpu.write8(hl, r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x36: { // LD (HL), d8
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.fetch8() & 0xFF);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x37: { // SCF
+                cpu.setFlags((cpu.getF() & 0x80) | 0x10);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x38: { // JR C, r8
+                int e = cpu.fetch8();
+                if (cpu.isC()) {
+                    cpu.setPC(cpu.getPC() + e);
+                    cpu.incCycles(12);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0x39: { // ADD HL, SP
+                int hl = cpu.getHL();
+                int rr = cpu.getSP();
+                int r = hl + rr;
+                cpu.setHL(r);
+                cpu.flagsAdd16(hl, rr, r);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3A: { // LD A, (HL-)
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.setHL(hl - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3B: { // DEC SP
+                cpu.setSP(cpu.getSP() - 1);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3C: { // INC A
+                int r = Alu.inc(cpu.getA());
+                cpu.setA(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x3D: { // DEC A
+                int r = Alu.dec(cpu.getA());
+                cpu.setA(r);
+                cpu.setFlagsKeepCarry(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x3E: { // LD A, d8
+                cpu.setA(cpu.fetch8() & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3F: { // CCF
+                cpu.setFlags((cpu.getF() & 0x80) | (!cpu.isC() ? 0x10 : 0));
+                cpu.incCycles(4);
+                break;
+            }
+        }
+    }
+
+    private static void execute40(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x40: { // LD B, B
+                cpu.setB(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x41: { // LD B, C
+                cpu.setB(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x42: { // LD B, D
+                cpu.setB(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x43: { // LD B, E
+                cpu.setB(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x44: { // LD B, H
+                cpu.setB(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x45: { // LD B, L
+                cpu.setB(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x46: { // LD B, (HL)
+                int hl = cpu.getHL();
+                cpu.setB(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x47: { // LD B, A
+                cpu.setB(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x48: { // LD C, B
+                cpu.setC(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x49: { // LD C, C
+                cpu.setC(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x4A: { // LD C, D
+                cpu.setC(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x4B: { // LD C, E
+                cpu.setC(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x4C: { // LD C, H
+                cpu.setC(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x4D: { // LD C, L
+                cpu.setC(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x4E: { // LD C, (HL)
+                int hl = cpu.getHL();
+                cpu.setC(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4F: { // LD C, A
+                cpu.setC(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x50: { // LD D, B
+                cpu.setD(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x51: { // LD D, C
+                cpu.setD(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x52: { // LD D, D
+                cpu.setD(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x53: { // LD D, E
+                cpu.setD(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x54: { // LD D, H
+                cpu.setD(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x55: { // LD D, L
+                cpu.setD(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x56: { // LD D, (HL)
+                int hl = cpu.getHL();
+                cpu.setD(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x57: { // LD D, A
+                cpu.setD(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x58: { // LD E, B
+                cpu.setE(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x59: { // LD E, C
+                cpu.setE(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x5A: { // LD E, D
+                cpu.setE(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x5B: { // LD E, E
+                cpu.setE(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x5C: { // LD E, H
+                cpu.setE(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x5D: { // LD E, L
+                cpu.setE(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x5E: { // LD E, (HL)
+                int hl = cpu.getHL();
+                cpu.setE(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5F: { // LD E, A
+                cpu.setE(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x60: { // LD H, B
+                cpu.setH(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x61: { // LD H, C
+                cpu.setH(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x62: { // LD H, D
+                cpu.setH(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x63: { // LD H, E
+                cpu.setH(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x64: { // LD H, H
+                cpu.setH(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x65: { // LD H, L
+                cpu.setH(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x66: { // LD H, (HL)
+                int hl = cpu.getHL();
+                cpu.setH(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x67: { // LD H, A
+                cpu.setH(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x68: { // LD L, B
+                cpu.setL(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x69: { // LD L, C
+                cpu.setL(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x6A: { // LD L, D
+                cpu.setL(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x6B: { // LD L, E
+                cpu.setL(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x6C: { // LD L, H
+                cpu.setL(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x6D: { // LD L, L
+                cpu.setL(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x6E: { // LD L, (HL)
+                int hl = cpu.getHL();
+                cpu.setL(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6F: { // LD L, A
+                cpu.setL(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x70: { // LD (HL), B
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getB());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x71: { // LD (HL), C
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getC());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x72: { // LD (HL), D
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getD());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x73: { // LD (HL), E
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getE());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x74: { // LD (HL), H
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getH());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x75: { // LD (HL), L
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getL());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x76: { // HALT
+                cpu.haltUntilInterrupt();
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x77: { // LD (HL), A
+                int hl = cpu.getHL();
+                cpu.write8(hl, cpu.getA());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x78: { // LD A, B
+                cpu.setA(cpu.getB());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x79: { // LD A, C
+                cpu.setA(cpu.getC());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x7A: { // LD A, D
+                cpu.setA(cpu.getD());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x7B: { // LD A, E
+                cpu.setA(cpu.getE());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x7C: { // LD A, H
+                cpu.setA(cpu.getH());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x7D: { // LD A, L
+                cpu.setA(cpu.getL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x7E: { // LD A, (HL)
+                int hl = cpu.getHL();
+                cpu.setA(cpu.read8(hl) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7F: { // LD A, A
+                cpu.setA(cpu.getA());
+                cpu.incCycles(4);
+                break;
+            }
+        }
+    }
+
+    private static void execute80(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x80: { // ADD A, B
+                int r = Alu.add(cpu.getA(), cpu.getB(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x81: { // ADD A, C
+                int r = Alu.add(cpu.getA(), cpu.getC(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x82: { // ADD A, D
+                int r = Alu.add(cpu.getA(), cpu.getD(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x83: { // ADD A, E
+                int r = Alu.add(cpu.getA(), cpu.getE(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x84: { // ADD A, H
+                int r = Alu.add(cpu.getA(), cpu.getH(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x85: { // ADD A, L
+                int r = Alu.add(cpu.getA(), cpu.getL(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x86: { // ADD A, (HL)
+                int hl = cpu.getHL();
+                int r = Alu.add(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x87: { // ADD A, A
+                int r = Alu.add(cpu.getA(), cpu.getA(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x88: { // ADC A, B
+                int r = Alu.add(cpu.getA(), cpu.getB(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x89: { // ADC A, C
+                int r = Alu.add(cpu.getA(), cpu.getC(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x8A: { // ADC A, D
+                int r = Alu.add(cpu.getA(), cpu.getD(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x8B: { // ADC A, E
+                int r = Alu.add(cpu.getA(), cpu.getE(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x8C: { // ADC A, H
+                int r = Alu.add(cpu.getA(), cpu.getH(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x8D: { // ADC A, L
+                int r = Alu.add(cpu.getA(), cpu.getL(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x8E: { // ADC A, (HL)
+                int hl = cpu.getHL();
+                int r = Alu.add(cpu.getA(), cpu.read8(hl) & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8F: { // ADC A, A
+                int r = Alu.add(cpu.getA(), cpu.getA(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x90: { // SUB B
+                int r = Alu.sub(cpu.getA(), cpu.getB(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x91: { // SUB C
+                int r = Alu.sub(cpu.getA(), cpu.getC(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x92: { // SUB D
+                int r = Alu.sub(cpu.getA(), cpu.getD(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x93: { // SUB E
+                int r = Alu.sub(cpu.getA(), cpu.getE(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x94: { // SUB H
+                int r = Alu.sub(cpu.getA(), cpu.getH(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x95: { // SUB L
+                int r = Alu.sub(cpu.getA(), cpu.getL(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x96: { // SUB (HL)
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x97: { // SUB A
+                int r = Alu.sub(cpu.getA(), cpu.getA(), 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x98: { // SBC A, B
+                int r = Alu.sub(cpu.getA(), cpu.getB(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x99: { // SBC A, C
+                int r = Alu.sub(cpu.getA(), cpu.getC(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x9A: { // SBC A, D
+                int r = Alu.sub(cpu.getA(), cpu.getD(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x9B: { // SBC A, E
+                int r = Alu.sub(cpu.getA(), cpu.getE(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x9C: { // SBC A, H
+                int r = Alu.sub(cpu.getA(), cpu.getH(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x9D: { // SBC A, L
+                int r = Alu.sub(cpu.getA(), cpu.getL(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0x9E: { // SBC A, (HL)
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9F: { // SBC A, A
+                int r = Alu.sub(cpu.getA(), cpu.getA(), cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA0: { // AND B
+                int r = cpu.getA() & cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA1: { // AND C
+                int r = cpu.getA() & cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA2: { // AND D
+                int r = cpu.getA() & cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA3: { // AND E
+                int r = cpu.getA() & cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA4: { // AND H
+                int r = cpu.getA() & cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA5: { // AND L
+                int r = cpu.getA() & cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA6: { // AND (HL)
+                int hl = cpu.getHL();
+                int r = cpu.getA() & (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA7: { // AND A
+                int r = cpu.getA() & cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA8: { // XOR B
+                int r = cpu.getA() ^ cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xA9: { // XOR C
+                int r = cpu.getA() ^ cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xAA: { // XOR D
+                int r = cpu.getA() ^ cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xAB: { // XOR E
+                int r = cpu.getA() ^ cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xAC: { // XOR H
+                int r = cpu.getA() ^ cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xAD: { // XOR L
+                int r = cpu.getA() ^ cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xAE: { // XOR (HL)
+                int hl = cpu.getHL();
+                int r = cpu.getA() ^ (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAF: { // XOR A
+                int r = cpu.getA() ^ cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB0: { // OR B
+                int r = cpu.getA() | cpu.getB();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB1: { // OR C
+                int r = cpu.getA() | cpu.getC();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB2: { // OR D
+                int r = cpu.getA() | cpu.getD();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB3: { // OR E
+                int r = cpu.getA() | cpu.getE();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB4: { // OR H
+                int r = cpu.getA() | cpu.getH();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB5: { // OR L
+                int r = cpu.getA() | cpu.getL();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB6: { // OR (HL)
+                int hl = cpu.getHL();
+                int r = cpu.getA() | (cpu.read8(hl) & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB7: { // OR A
+                int r = cpu.getA() | cpu.getA();
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB8: { // CP B
+                int r = Alu.sub(cpu.getA(), cpu.getB(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xB9: { // CP C
+                int r = Alu.sub(cpu.getA(), cpu.getC(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xBA: { // CP D
+                int r = Alu.sub(cpu.getA(), cpu.getD(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xBB: { // CP E
+                int r = Alu.sub(cpu.getA(), cpu.getE(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xBC: { // CP H
+                int r = Alu.sub(cpu.getA(), cpu.getH(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xBD: { // CP L
+                int r = Alu.sub(cpu.getA(), cpu.getL(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xBE: { // CP (HL)
+                int hl = cpu.getHL();
+                int r = Alu.sub(cpu.getA(), cpu.read8(hl) & 0xFF, 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBF: { // CP A
+                int r = Alu.sub(cpu.getA(), cpu.getA(), 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(4);
+                break;
+            }
+        }
+    }
+
+    private static void executeC0(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0xC0: { // RET NZ
+                if (!cpu.isZ()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0xC1: { // POP BC
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setBC(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xC2: { // JP NZ, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isZ()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xC3: { // JP a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xC4: { // CALL NZ, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isZ()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xC5: { // PUSH BC
+                cpu.push16(cpu.getBC());
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xC6: { // ADD A, d8
+                int r = Alu.add(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC7: { // RST 00H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x00);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xC8: { // RET Z
+                if (cpu.isZ()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0xC9: { // RET
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xCA: { // JP Z, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isZ()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xCB: { // PREFIX CB
+                cpu.incCycles(4);
+                throw new RuntimeException("something has gone very wrong, executed 0xCB");
+            }
+
+            case 0xCC: { // CALL Z, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isZ()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xCD: { // CALL a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.push16(cpu.getPC());
+                cpu.setPC(nn);
+                cpu.incCycles(24);
+                break;
+            }
+
+            case 0xCE: { // ADC A, d8
+                int r = Alu.add(cpu.getA(), cpu.fetch8() & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCF: { // RST 08H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x08);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xD0: { // RET NC
+                if (!cpu.isC()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0xD1: { // POP DE
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setDE(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xD2: { // JP NC, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isC()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xD3: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xD3");
+            }
+
+            case 0xD4: { // CALL NC, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (!cpu.isC()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xD5: { // PUSH DE
+                cpu.push16(cpu.getDE());
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xD6: { // SUB d8
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD7: { // RST 10H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x10);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xD8: { // RET C
+                if (cpu.isC()) {
+                    int lo = cpu.pop8() & 0xFF;
+                    int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                    cpu.setPC(nn);
+                    cpu.incCycles(20);
+                } else {
+                    cpu.incCycles(8);
+                }
+                break;
+            }
+
+            case 0xD9: { // RETI
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setPC(nn);
+                cpu.enableInterrupts();
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xDA: { // JP C, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isC()) {
+                    cpu.setPC(nn);
+                    cpu.incCycles(16);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xDB: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xDB");
+            }
+
+            case 0xDC: { // CALL C, a16
+                int lo = cpu.fetch8() & 0xFF;
+                int nn = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                if (cpu.isC()) {
+                    cpu.push16(cpu.getPC());
+                    cpu.setPC(nn);
+                    cpu.incCycles(24);
+                } else {
+                    cpu.incCycles(12);
+                }
+                break;
+            }
+
+            case 0xDD: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xDD");
+            }
+
+            case 0xDE: { // SBC A, d8
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, cpu.isC() ? 1 : 0);
+                cpu.setA(r);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDF: { // RST 18H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x18);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xE0: { // LDH (a8), A
+                int addr = 0xFF00 | (cpu.fetch8() & 0xFF);
+                cpu.write8(addr, cpu.getA());
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xE1: { // POP HL
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setHL(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xE2: { // LD (C), A
+                cpu.write8(0xFF00 | cpu.getC(), cpu.getA());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE3: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xE3");
+            }
+
+            case 0xE4: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xE4");
+            }
+
+            case 0xE5: { // PUSH HL
+                cpu.push16(cpu.getHL());
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xE6: { // AND d8
+                int r = cpu.getA() & (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE7: { // RST 20H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x20);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xE8: { // ADD SP, r8
+                int sp = cpu.getSP();
+                int e = cpu.fetch8();
+                cpu.setSP(sp + e);
+                cpu.setFlags(((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xE9: { // JP HL
+                cpu.setPC(cpu.getHL());
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xEA: { // LD (a16), A
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.write8(addr, cpu.getA());
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xEB: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xEB");
+            }
+
+            case 0xEC: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xEC");
+            }
+
+            case 0xED: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xED");
+            }
+
+            case 0xEE: { // XOR d8
+                int r = cpu.getA() ^ (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xEF: { // RST 28H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x28);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xF0: { // LDH A, (a8)
+                int addr = 0xFF00 | (cpu.fetch8() & 0xFF);
+                cpu.setA(cpu.read8(addr) & 0xFF);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xF1: { // POP AF
+                int lo = cpu.pop8() & 0xFF;
+                int nn = ((cpu.pop8() & 0xFF) << 8) | lo;
+                cpu.setAF(nn);
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xF2: { // LD A, (C)
+                cpu.setA(cpu.read8(0xFF00 | cpu.getC()) & 0xFF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF3: { // DI
+                cpu.disableInterrupts();
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xF4: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xF4");
+            }
+
+            case 0xF5: { // PUSH AF
+                cpu.push16(cpu.getAF());
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xF6: { // OR d8
+                int r = cpu.getA() | (cpu.fetch8() & 0xFF);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF7: { // RST 30H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x30);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xF8: { // LD HL, SP+r8
+                int sp = cpu.getSP();
+                int e = cpu.fetch8();
+                cpu.setHL(sp + e);
+                cpu.setFlags(((sp & 0x0F) + (e & 0x0F) > 0x0F ? 0x20 : 0) | ((sp & 0xFF) + (e & 0xFF) > 0xFF ? 0x10 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0xF9: { // LD SP, HL
+                cpu.setSP(cpu.getHL());
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFA: { // LD A, (a16)
+                int lo = cpu.fetch8() & 0xFF;
+                int addr = ((cpu.fetch8() & 0xFF) << 8) | lo;
+                cpu.setA(cpu.read8(addr) & 0xFF);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xFB: { // EI
+                cpu.enableInterrupts();
+                cpu.incCycles(4);
+                break;
+            }
+
+            case 0xFC: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xFC");
+            }
+
+            case 0xFD: { // UNUSED
+                throw new RuntimeException("Unused opcode 0xFD");
+            }
+
+            case 0xFE: { // CP d8
+                int r = Alu.sub(cpu.getA(), cpu.fetch8() & 0xFF, 0);
+                cpu.setFlags(r >> 8);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFF: { // RST 38H
+                cpu.push16(cpu.getPC());
+                cpu.setPC(0x38);
+                cpu.incCycles(16);
+                break;
+            }
+        }
+    }
+
+    private static void executeCB00(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x00: { // RLC B
+                int v = cpu.getB();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x01: { // RLC C
+                int v = cpu.getC();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x02: { // RLC D
+                int v = cpu.getD();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x03: { // RLC E
+                int v = cpu.getE();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x04: { // RLC H
+                int v = cpu.getH();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x05: { // RLC L
+                int v = cpu.getL();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x06: { // RLC (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v << 1) | (v >>> 7);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x07: { // RLC A
+                int v = cpu.getA();
+                int r = (v << 1) | (v >>> 7);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x08: { // RRC B
+                int v = cpu.getB();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x09: { // RRC C
+                int v = cpu.getC();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0A: { // RRC D
+                int v = cpu.getD();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0B: { // RRC E
+                int v = cpu.getE();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0C: { // RRC H
+                int v = cpu.getH();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0D: { // RRC L
+                int v = cpu.getL();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x0E: { // RRC (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (v << 7);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x0F: { // RRC A
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v << 7);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x10: { // RL B
+                int v = cpu.getB();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x11: { // RL C
+                int v = cpu.getC();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x12: { // RL D
+                int v = cpu.getD();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x13: { // RL E
+                int v = cpu.getE();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x14: { // RL H
+                int v = cpu.getH();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x15: { // RL L
+                int v = cpu.getL();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x16: { // RL (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x17: { // RL A
+                int v = cpu.getA();
+                int r = (v << 1) | (cpu.isC() ? 0x01 : 0);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x18: { // RR B
+                int v = cpu.getB();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x19: { // RR C
+                int v = cpu.getC();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1A: { // RR D
+                int v = cpu.getD();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1B: { // RR E
+                int v = cpu.getE();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1C: { // RR H
+                int v = cpu.getH();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1D: { // RR L
+                int v = cpu.getL();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x1E: { // RR (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x1F: { // RR A
+                int v = cpu.getA();
+                int r = (v >>> 1) | (cpu.isC() ? 0x80 : 0);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x20: { // SLA B
+                int v = cpu.getB();
+                int r = v << 1;
+                cpu.setB(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x21: { // SLA C
+                int v = cpu.getC();
+                int r = v << 1;
+                cpu.setC(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x22: { // SLA D
+                int v = cpu.getD();
+                int r = v << 1;
+                cpu.setD(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x23: { // SLA E
+                int v = cpu.getE();
+                int r = v << 1;
+                cpu.setE(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x24: { // SLA H
+                int v = cpu.getH();
+                int r = v << 1;
+                cpu.setH(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x25: { // SLA L
+                int v = cpu.getL();
+                int r = v << 1;
+                cpu.setL(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x26: { // SLA (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = v << 1;
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x27: { // SLA A
+                int v = cpu.getA();
+                int r = v << 1;
+                cpu.setA(r);
+                cpu.flagsShift(v, r, true);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x28: { // SRA B
+                int v = cpu.getB();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x29: { // SRA C
+                int v = cpu.getC();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2A: { // SRA D
+                int v = cpu.getD();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2B: { // SRA E
+                int v = cpu.getE();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2C: { // SRA H
+                int v = cpu.getH();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2D: { // SRA L
+                int v = cpu.getL();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x2E: { // SRA (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x2F: { // SRA A
+                int v = cpu.getA();
+                int r = (v >>> 1) | (v & 0x80);
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x30: { // SWAP B
+                int v = cpu.getB();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setB(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x31: { // SWAP C
+                int v = cpu.getC();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setC(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x32: { // SWAP D
+                int v = cpu.getD();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setD(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x33: { // SWAP E
+                int v = cpu.getE();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setE(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x34: { // SWAP H
+                int v = cpu.getH();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setH(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x35: { // SWAP L
+                int v = cpu.getL();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setL(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x36: { // SWAP (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.write8(hl, r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x37: { // SWAP A
+                int v = cpu.getA();
+                int r = ((v & 0x0F) << 4) | (v >>> 4);
+                cpu.setA(r);
+                cpu.flagsLogic(r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x38: { // SRL B
+                int v = cpu.getB();
+                int r = v >>> 1;
+                cpu.setB(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x39: { // SRL C
+                int v = cpu.getC();
+                int r = v >>> 1;
+                cpu.setC(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3A: { // SRL D
+                int v = cpu.getD();
+                int r = v >>> 1;
+                cpu.setD(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3B: { // SRL E
+                int v = cpu.getE();
+                int r = v >>> 1;
+                cpu.setE(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3C: { // SRL H
+                int v = cpu.getH();
+                int r = v >>> 1;
+                cpu.setH(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3D: { // SRL L
+                int v = cpu.getL();
+                int r = v >>> 1;
+                cpu.setL(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x3E: { // SRL (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                int r = v >>> 1;
+                cpu.write8(hl, r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x3F: { // SRL A
+                int v = cpu.getA();
+                int r = v >>> 1;
+                cpu.setA(r);
+                cpu.flagsShift(v, r, false);
+                cpu.incCycles(8);
+                break;
+            }
+        }
+    }
+
+    private static void executeCB40(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x40: { // BIT 0, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x41: { // BIT 0, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x42: { // BIT 0, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x43: { // BIT 0, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x44: { // BIT 0, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x45: { // BIT 0, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x46: { // BIT 0, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x47: { // BIT 0, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x01) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x48: { // BIT 1, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x49: { // BIT 1, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4A: { // BIT 1, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4B: { // BIT 1, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4C: { // BIT 1, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4D: { // BIT 1, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x4E: { // BIT 1, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x4F: { // BIT 1, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x02) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x50: { // BIT 2, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x51: { // BIT 2, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x52: { // BIT 2, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x53: { // BIT 2, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x54: { // BIT 2, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x55: { // BIT 2, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x56: { // BIT 2, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x57: { // BIT 2, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x04) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x58: { // BIT 3, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x59: { // BIT 3, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5A: { // BIT 3, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5B: { // BIT 3, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5C: { // BIT 3, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5D: { // BIT 3, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x5E: { // BIT 3, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x5F: { // BIT 3, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x08) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x60: { // BIT 4, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x61: { // BIT 4, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x62: { // BIT 4, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x63: { // BIT 4, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x64: { // BIT 4, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x65: { // BIT 4, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x66: { // BIT 4, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x67: { // BIT 4, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x10) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x68: { // BIT 5, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x69: { // BIT 5, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6A: { // BIT 5, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6B: { // BIT 5, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6C: { // BIT 5, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6D: { // BIT 5, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x6E: { // BIT 5, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x6F: { // BIT 5, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x20) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x70: { // BIT 6, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x71: { // BIT 6, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x72: { // BIT 6, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x73: { // BIT 6, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x74: { // BIT 6, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x75: { // BIT 6, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x76: { // BIT 6, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x77: { // BIT 6, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x40) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x78: { // BIT 7, B
+                int v = cpu.getB();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x79: { // BIT 7, C
+                int v = cpu.getC();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7A: { // BIT 7, D
+                int v = cpu.getD();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7B: { // BIT 7, E
+                int v = cpu.getE();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7C: { // BIT 7, H
+                int v = cpu.getH();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7D: { // BIT 7, L
+                int v = cpu.getL();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x7E: { // BIT 7, (HL)
+                int hl = cpu.getHL();
+                int v = cpu.read8(hl) & 0xFF;
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(12);
+                break;
+            }
+
+            case 0x7F: { // BIT 7, A
+                int v = cpu.getA();
+                cpu.setFlags((cpu.getF() & 0x10) | 0x20 | ((v & 0x80) == 0 ? 0x80 : 0));
+                cpu.incCycles(8);
+                break;
+            }
+        }
+    }
+
+    private static void executeCB80(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0x80: { // RES 0, B
+                cpu.setB(cpu.getB() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x81: { // RES 0, C
+                cpu.setC(cpu.getC() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x82: { // RES 0, D
+                cpu.setD(cpu.getD() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x83: { // RES 0, E
+                cpu.setE(cpu.getE() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x84: { // RES 0, H
+                cpu.setH(cpu.getH() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x85: { // RES 0, L
+                cpu.setL(cpu.getL() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x86: { // RES 0, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFE);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x87: { // RES 0, A
+                cpu.setA(cpu.getA() & 0xFE);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x88: { // RES 1, B
+                cpu.setB(cpu.getB() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x89: { // RES 1, C
+                cpu.setC(cpu.getC() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8A: { // RES 1, D
+                cpu.setD(cpu.getD() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8B: { // RES 1, E
+                cpu.setE(cpu.getE() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8C: { // RES 1, H
+                cpu.setH(cpu.getH() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8D: { // RES 1, L
+                cpu.setL(cpu.getL() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x8E: { // RES 1, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFD);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x8F: { // RES 1, A
+                cpu.setA(cpu.getA() & 0xFD);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x90: { // RES 2, B
+                cpu.setB(cpu.getB() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x91: { // RES 2, C
+                cpu.setC(cpu.getC() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x92: { // RES 2, D
+                cpu.setD(cpu.getD() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x93: { // RES 2, E
+                cpu.setE(cpu.getE() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x94: { // RES 2, H
+                cpu.setH(cpu.getH() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x95: { // RES 2, L
+                cpu.setL(cpu.getL() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x96: { // RES 2, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xFB);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x97: { // RES 2, A
+                cpu.setA(cpu.getA() & 0xFB);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x98: { // RES 3, B
+                cpu.setB(cpu.getB() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x99: { // RES 3, C
+                cpu.setC(cpu.getC() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9A: { // RES 3, D
+                cpu.setD(cpu.getD() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9B: { // RES 3, E
+                cpu.setE(cpu.getE() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9C: { // RES 3, H
+                cpu.setH(cpu.getH() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9D: { // RES 3, L
+                cpu.setL(cpu.getL() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0x9E: { // RES 3, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xF7);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0x9F: { // RES 3, A
+                cpu.setA(cpu.getA() & 0xF7);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA0: { // RES 4, B
+                cpu.setB(cpu.getB() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA1: { // RES 4, C
+                cpu.setC(cpu.getC() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA2: { // RES 4, D
+                cpu.setD(cpu.getD() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA3: { // RES 4, E
+                cpu.setE(cpu.getE() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA4: { // RES 4, H
+                cpu.setH(cpu.getH() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA5: { // RES 4, L
+                cpu.setL(cpu.getL() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA6: { // RES 4, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xEF);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xA7: { // RES 4, A
+                cpu.setA(cpu.getA() & 0xEF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA8: { // RES 5, B
+                cpu.setB(cpu.getB() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xA9: { // RES 5, C
+                cpu.setC(cpu.getC() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAA: { // RES 5, D
+                cpu.setD(cpu.getD() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAB: { // RES 5, E
+                cpu.setE(cpu.getE() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAC: { // RES 5, H
+                cpu.setH(cpu.getH() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAD: { // RES 5, L
+                cpu.setL(cpu.getL() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xAE: { // RES 5, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xDF);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xAF: { // RES 5, A
+                cpu.setA(cpu.getA() & 0xDF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB0: { // RES 6, B
+                cpu.setB(cpu.getB() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB1: { // RES 6, C
+                cpu.setC(cpu.getC() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB2: { // RES 6, D
+                cpu.setD(cpu.getD() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB3: { // RES 6, E
+                cpu.setE(cpu.getE() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB4: { // RES 6, H
+                cpu.setH(cpu.getH() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB5: { // RES 6, L
+                cpu.setL(cpu.getL() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB6: { // RES 6, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0xBF);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xB7: { // RES 6, A
+                cpu.setA(cpu.getA() & 0xBF);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB8: { // RES 7, B
+                cpu.setB(cpu.getB() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xB9: { // RES 7, C
+                cpu.setC(cpu.getC() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBA: { // RES 7, D
+                cpu.setD(cpu.getD() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBB: { // RES 7, E
+                cpu.setE(cpu.getE() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBC: { // RES 7, H
+                cpu.setH(cpu.getH() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBD: { // RES 7, L
+                cpu.setL(cpu.getL() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xBE: { // RES 7, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) & 0x7F);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xBF: { // RES 7, A
+                cpu.setA(cpu.getA() & 0x7F);
+                cpu.incCycles(8);
+                break;
+            }
+        }
+    }
+
+    private static void executeCBC0(Cpu cpu, int opcode) {
+        switch (opcode) {
+            case 0xC0: { // SET 0, B
+                cpu.setB(cpu.getB() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC1: { // SET 0, C
+                cpu.setC(cpu.getC() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC2: { // SET 0, D
+                cpu.setD(cpu.getD() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC3: { // SET 0, E
+                cpu.setE(cpu.getE() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC4: { // SET 0, H
+                cpu.setH(cpu.getH() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC5: { // SET 0, L
+                cpu.setL(cpu.getL() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC6: { // SET 0, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x01);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xC7: { // SET 0, A
+                cpu.setA(cpu.getA() | 0x01);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC8: { // SET 1, B
+                cpu.setB(cpu.getB() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xC9: { // SET 1, C
+                cpu.setC(cpu.getC() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCA: { // SET 1, D
+                cpu.setD(cpu.getD() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCB: { // SET 1, E
+                cpu.setE(cpu.getE() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCC: { // SET 1, H
+                cpu.setH(cpu.getH() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCD: { // SET 1, L
+                cpu.setL(cpu.getL() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xCE: { // SET 1, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x02);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xCF: { // SET 1, A
+                cpu.setA(cpu.getA() | 0x02);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD0: { // SET 2, B
+                cpu.setB(cpu.getB() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD1: { // SET 2, C
+                cpu.setC(cpu.getC() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD2: { // SET 2, D
+                cpu.setD(cpu.getD() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD3: { // SET 2, E
+                cpu.setE(cpu.getE() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD4: { // SET 2, H
+                cpu.setH(cpu.getH() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD5: { // SET 2, L
+                cpu.setL(cpu.getL() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD6: { // SET 2, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x04);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xD7: { // SET 2, A
+                cpu.setA(cpu.getA() | 0x04);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD8: { // SET 3, B
+                cpu.setB(cpu.getB() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xD9: { // SET 3, C
+                cpu.setC(cpu.getC() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDA: { // SET 3, D
+                cpu.setD(cpu.getD() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDB: { // SET 3, E
+                cpu.setE(cpu.getE() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDC: { // SET 3, H
+                cpu.setH(cpu.getH() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDD: { // SET 3, L
+                cpu.setL(cpu.getL() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xDE: { // SET 3, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x08);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xDF: { // SET 3, A
+                cpu.setA(cpu.getA() | 0x08);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE0: { // SET 4, B
+                cpu.setB(cpu.getB() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE1: { // SET 4, C
+                cpu.setC(cpu.getC() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE2: { // SET 4, D
+                cpu.setD(cpu.getD() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE3: { // SET 4, E
+                cpu.setE(cpu.getE() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE4: { // SET 4, H
+                cpu.setH(cpu.getH() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE5: { // SET 4, L
+                cpu.setL(cpu.getL() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE6: { // SET 4, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x10);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xE7: { // SET 4, A
+                cpu.setA(cpu.getA() | 0x10);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE8: { // SET 5, B
+                cpu.setB(cpu.getB() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xE9: { // SET 5, C
+                cpu.setC(cpu.getC() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xEA: { // SET 5, D
+                cpu.setD(cpu.getD() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xEB: { // SET 5, E
+                cpu.setE(cpu.getE() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xEC: { // SET 5, H
+                cpu.setH(cpu.getH() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xED: { // SET 5, L
+                cpu.setL(cpu.getL() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xEE: { // SET 5, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x20);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xEF: { // SET 5, A
+                cpu.setA(cpu.getA() | 0x20);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF0: { // SET 6, B
+                cpu.setB(cpu.getB() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF1: { // SET 6, C
+                cpu.setC(cpu.getC() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF2: { // SET 6, D
+                cpu.setD(cpu.getD() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF3: { // SET 6, E
+                cpu.setE(cpu.getE() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF4: { // SET 6, H
+                cpu.setH(cpu.getH() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF5: { // SET 6, L
+                cpu.setL(cpu.getL() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF6: { // SET 6, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x40);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xF7: { // SET 6, A
+                cpu.setA(cpu.getA() | 0x40);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF8: { // SET 7, B
+                cpu.setB(cpu.getB() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xF9: { // SET 7, C
+                cpu.setC(cpu.getC() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFA: { // SET 7, D
+                cpu.setD(cpu.getD() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFB: { // SET 7, E
+                cpu.setE(cpu.getE() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFC: { // SET 7, H
+                cpu.setH(cpu.getH() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFD: { // SET 7, L
+                cpu.setL(cpu.getL() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+
+            case 0xFE: { // SET 7, (HL)
+                int hl = cpu.getHL();
+                cpu.write8(hl, (cpu.read8(hl) & 0xFF) | 0x80);
+                cpu.incCycles(16);
+                break;
+            }
+
+            case 0xFF: { // SET 7, A
+                cpu.setA(cpu.getA() | 0x80);
+                cpu.incCycles(8);
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+// the clock-driven hardware of one console: PPU modes and LY (with the LYC
+// compare), the DIV/TIMA timer and serial transfers. Each keeps its next state
+// change in an EventQueue, so the CPU loop only compares the cycle counter
+// against nextEvent and Io reads the current state instead of deriving it.
+//
+// The state transitions themselves are the static helpers at the bottom,
+// which LockstepBatch applies to its per-instance arrays as well
+public final class Timing {
+    public static final int LINE_CYCLES = 456;
+    public static final int LINES = 154;
+    public static final int VBLANK_LINE = 144;
+    static final int OAM_CYCLES = 80;
+    static final int TRANSFER_CYCLES = 172;
+
+    // a byte takes 8 bits at 8192 Hz with the internal clock
+    static final int SERIAL_CYCLES = 8 * 512;
+
+    // TIMA input clock for TAC bits 0-1
+    private static final int[] TIMER_PERIODS = { 1024, 16, 64, 256 };
+
+    // interrupt bits in IF
+    static final int INT_VBLANK = 0x01;
+    static final int INT_STAT = 0x02;
+    static final int INT_TIMER = 0x04;
+    static final int INT_SERIAL = 0x08;
+
+    // STAT bit enabling the LY == LYC interrupt
+    static final int STAT_LYC = 0x40;
+
+    // besides the new state (line << 8 | mode), what ppuStep reports
+    static final int PPU_LINE_START = 1 << 16; // a new line began, compare LYC
+    static final int PPU_VBLANK = 1 << 17;      // line 144 began, request V-Blank
+
+    // event ids
+    private static final int PPU = 0;
+    private static final int TIMER = 1;
+    private static final int SERIAL = 2;
+
+    private final Cpu cpu;
+    private final EventQueue events = new EventQueue(3);
+
+    // cycle of the earliest pending event, checked by the CPU before each instruction
+    long nextEvent;
+
+    private int ly;
+    private int mode;
+    private long ppuChanged; // cycle LY or the mode last changed at
+
+    private long divBase;   // cycle DIV was last reset at
+    private int timerPeriod; // 0 while TAC has the timer stopped
+    private int tima;       // TIMA as of timaTicks
+    private long timaTicks; // timer input ticks since divBase when tima was set
+
+    public Timing(Cpu cpu) {
+        this.cpu = cpu;
+
+        // the clock starts at 0 at the top of line 0
+        mode = 2;
+        events.schedule(PPU, OAM_CYCLES);
+        nextEvent = events.nextCycle();
+    }
+
+    // handle every event due at or before now, each at the cycle it was due
+    public void run(long now) {
+        while (events.nextCycle() <= now) {
+            int id = events.peek();
+            long at = events.cycleOf(id);
+            switch (id) {
+                case PPU:
+                    ppu(at);
+                    break;
+                case TIMER:
+                    timerOverflow(at);
+                    break;
+                case SERIAL:
+                    serialDone();
+                    break;
+                default:
+                    events.cancel(id);
+                    break;
+            }
+        }
+        nextEvent = events.nextCycle();
+    }
+
+    private void ppu(long at) {
+        ppuChanged = at;
+
+        int step = ppuStep(ly, mode);
+        ly = (step >> 8) & 0xFF;
+        mode = step & 0x03;
+        if ((step & PPU_VBLANK) != 0) {
+            raise(INT_VBLANK);
+        }
+        int source = ppuStatSource(step);
+        if (source != 0) {
+            statInterrupt(source);
+        }
+        events.schedule(PPU, at + ppuCycles(step));
+
+        if ((step & PPU_LINE_START) != 0 && ly == (cpu.read8(0xFF45) & 0xFF)) {
+            statInterrupt(STAT_LYC);
+        }
+    }
+
+    private void statInterrupt(int enableBit) {
+        if ((cpu.read8(0xFF41) & enableBit) != 0) {
+            raise(INT_STAT);
+        }
+    }
+
+    private void raise(int bit) {
+        cpu.requestInterrupt(bit);
+    }
+
+    public int getLY() {
+        return ly;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    public long getPpuChanged() {
+        return ppuChanged;
+    }
+
+    // next cycle LY or the mode changes at
+    public long getNextPpuChange() {
+        return events.cycleOf(PPU);
+    }
+
+    public int readDIV(long now) {
+        return div(divBase, now);
+    }
+
+    // restart the divider from a given 16-bit count (PostBoot), like a write to
+    // DIV that leaves it at counter instead of 0
+    public void setDivider(int counter, long now) {
+        tima = readTIMA(now);
+        divBase = now - counter;
+        timaTicks = timerTicks(divBase, timerPeriod, now);
+        scheduleTimer();
+        nextEvent = events.nextCycle();
+    }
+
+    public int readTIMA(long now) {
+        return tima(tima, timaTicks, divBase, timerPeriod, now);
+    }
+
+    private void timerOverflow(long at) {
+        // TIMA reloads from TMA and counts on from the overflow tick
+        tima = cpu.read8(0xFF06) & 0xFF;
+        timaTicks = timerTicks(divBase, timerPeriod, at);
+        raise(INT_TIMER);
+        scheduleTimer();
+    }
+
+    private void scheduleTimer() {
+        long at = timerOverflowAt(tima, timaTicks, divBase, timerPeriod);
+        if (at == EventQueue.NEVER) {
+            events.cancel(TIMER);
+        } else {
+            events.schedule(TIMER, at);
+        }
+    }
+
+    private void serialDone() {
+        // no link partner, the byte shifted in is all ones
+        events.cancel(SERIAL);
+        cpu.write8(0xFF01, 0xFF);
+        cpu.write8(0xFF02, cpu.read8(0xFF02) & 0x7F);
+        raise(INT_SERIAL);
+    }
+
+    // called by Io after a write to an I/O register
+    public void written(int addr, int value, long now) {
+        switch (addr) {
+            case 0xFF02: // SC
+                long done = serialDoneAt(value, now);
+                if (done == EventQueue.NEVER) {
+                    events.cancel(SERIAL);
+                } else {
+                    events.schedule(SERIAL, done);
+                }
+                break;
+            case 0xFF04: // DIV, any write resets it and the timer input with it
+                tima = readTIMA(now);
+                divBase = now;
+                timaTicks = 0;
+                scheduleTimer();
+                break;
+            case 0xFF05: // TIMA
+                tima = value & 0xFF;
+                timaTicks = timerTicks(divBase, timerPeriod, now);
+                scheduleTimer();
+                break;
+            case 0xFF07: // TAC
+                tima = readTIMA(now);
+                timerPeriod = timerPeriod(value);
+                timaTicks = timerTicks(divBase, timerPeriod, now);
+                scheduleTimer();
+                break;
+            default:
+                return;
+        }
+        nextEvent = events.nextCycle();
+    }
+
+    // PPU: the change due at the end of mode on line, mode 2 (OAM) -> 3 (pixel
+    // transfer) -> 0 (H-Blank) -> next line, with lines 144-153 in mode 1
+    // (V-Blank). Returns the new line << 8 | mode with PPU_* flags above
+    static int ppuStep(int line, int mode) {
+        if (mode == 2) {
+            return line << 8 | 3;
+        }
+        if (mode == 3) {
+            return line << 8;
+        }
+        int next = line + 1 == LINES ? 0 : line + 1;
+        if (next < VBLANK_LINE) {
+            return PPU_LINE_START | next << 8 | 2;
+        }
+        return PPU_LINE_START | (next == VBLANK_LINE ? PPU_VBLANK : 0) | next << 8 | 1;
+    }
+
+    // STAT enable bit that requests LCD STAT for a ppuStep, 0 if none
+    static int ppuStatSource(int step) {
+        switch (step & 0x03) {
+            case 0:
+                return 0x08;
+            case 2:
+                return 0x20;
+            case 1:
+                return (step & PPU_VBLANK) != 0 ? 0x10 : 0;
+            default:
+                return 0;
+        }
+    }
+
+    // cycles from a ppuStep to the next one
+    static int ppuCycles(int step) {
+        switch (step & 0x03) {
+            case 2:
+                return OAM_CYCLES;
+            case 3:
+                return TRANSFER_CYCLES;
+            case 0:
+                return LINE_CYCLES - OAM_CYCLES - TRANSFER_CYCLES;
+            default:
+                return LINE_CYCLES; // a whole V-Blank line
+        }
+    }
+
+    // timer: DIV is the top byte of a 16-bit counter started at divBase, and
+    // TIMA counts timer input ticks (one per period) since then, being tima
+    // at timaTicks of them
+
+    static int div(long divBase, long now) {
+        return (int) ((now - divBase) >> 8) & 0xFF;
+    }
+
+    // input period selected by TAC, 0 while it has the timer stopped
+    static int timerPeriod(int tac) {
+        return (tac & 0x04) != 0 ? TIMER_PERIODS[tac & 0x03] : 0;
+    }
+
+    // ticks since divBase as of now, what timaTicks is set to along with TIMA
+    static long timerTicks(long divBase, int period, long now) {
+        return period == 0 ? 0 : (now - divBase) / period;
+    }
+
+    static int tima(int tima, long timaTicks, long divBase, int period, long now) {
+        if (period == 0) {
+            return tima;
+        }
+        return (int) (tima + (now - divBase) / period - timaTicks);
+    }
+
+    // cycle TIMA next overflows at, EventQueue.NEVER while stopped
+    static long timerOverflowAt(int tima, long timaTicks, long divBase, int period) {
+        return period == 0 ? EventQueue.NEVER : divBase + (timaTicks + 256 - tima) * period;
+    }
+
+    // serial: a write of SC with bit 7 (start) and bit 0 (internal clock) set
+    // shifts a byte out, and with no link partner all ones in; the cycle it
+    // completes at, EventQueue.NEVER if SC doesn't start a transfer
+    static long serialDoneAt(int sc, long now) {
+        return (sc & 0x81) == 0x81 ? now + SERIAL_CYCLES : EventQueue.NEVER;
+    }
+}
@@ -0,0 +1,101 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// per-console ring of the last executed instructions as fixed-size binary
+// records (three longs each, nothing allocated while recording). Dumped with
+// dump() in the format TraceDecoder reads:
+//
+//   header  "GBTR", u16 version, u16 record bytes, i32 console id,
+//           i32 records that follow, i64 records written in total,
+//           u16 reason length, reason (UTF-8, empty unless frozen by a fault)
+//   record  i64 cycles before the instruction
+//           i64 A F B C D E H L, one byte each from the top
+//           i64 PC (bits 63-48), SP (47-32), opcode or 0x100 | cb (31-16), flags (15-0)
+public final class TraceBuffer {
+    public static final int VERSION = 1;
+    public static final int RECORD_BYTES = 24;
+    public static final int FLAG_FAULT = 0x0001; // instruction that threw
+
+    private final int id;
+    private final long[] ring;
+    private final int mask;
+    private long written;
+    private volatile String frozen; // reason recording stopped, null while recording
+
+    // capacity is rounded up to a power of two
+    public TraceBuffer(int id, int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.id = id;
+        this.ring = new long[size * 3];
+        this.mask = size - 1;
+    }
+
+    public void record(long cycles, long registers, long position) {
+        if (frozen != null) {
+            return;
+        }
+        int i = (int) (written++ & mask) * 3;
+        ring[i] = cycles;
+        ring[i + 1] = registers;
+        ring[i + 2] = position;
+    }
+
+    // set flags on the newest record if it is the instruction at pc and cycles
+    public boolean flagLast(long cycles, int pc, int flags) {
+        if (written == 0 || frozen != null) {
+            return false;
+        }
+        int i = (int) ((written - 1) & mask) * 3;
+        if (ring[i] != cycles || (int) (ring[i + 2] >>> 48) != pc) {
+            return false;
+        }
+        ring[i + 2] |= flags;
+        return true;
+    }
+
+    // keep what is in the ring, e.g. when the console faults
+    public void freeze(String reason) {
+        if (frozen == null) {
+            frozen = reason == null ? "" : reason;
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen != null;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    // oldest record first; taken while the console may still be recording, in
+    // which case the oldest few records can already be overwritten
+    public byte[] dump() {
+        String reason = frozen == null ? "" : frozen;
+        byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+        long total = written;
+        int count = (int) Math.min(total, mask + 1);
+
+        ByteBuffer out = ByteBuffer.allocate(4 + 2 + 2 + 4 + 4 + 8 + 2 + reasonBytes.length + count * RECORD_BYTES);
+        out.put(new byte[] { 'G', 'B', 'T', 'R' });
+        out.putShort((short) VERSION);
+        out.putShort((short) RECORD_BYTES);
+        out.putInt(id);
+        out.putInt(count);
+        out.putLong(total);
+        out.putShort((short) reasonBytes.length);
+        out.put(reasonBytes);
+
+        for (long n = total - count; n < total; n++) {
+            int i = (int) (n & mask) * 3;
+            out.putLong(ring[i]);
+            out.putLong(ring[i + 1]);
+            out.putLong(ring[i + 2]);
+        }
+        return out.array();
+    }
+}
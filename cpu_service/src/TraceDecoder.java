@@ -0,0 +1,61 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// prints a TraceBuffer dump (GET /trace/{id}) as text, one instruction per line:
+//   java -cp build TraceDecoder trace.bin
+public class TraceDecoder {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: TraceDecoder <trace file>");
+            System.exit(2);
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(Paths.get(args[0])));
+        byte[] magic = new byte[4];
+        in.get(magic);
+        if (!"GBTR".equals(new String(magic, StandardCharsets.US_ASCII))) {
+            throw new IOException("not a trace dump");
+        }
+        int version = in.getShort() & 0xFFFF;
+        int recordBytes = in.getShort() & 0xFFFF;
+        if (version != TraceBuffer.VERSION || recordBytes != TraceBuffer.RECORD_BYTES) {
+            throw new IOException("unsupported trace version " + version + " with " + recordBytes + "-byte records");
+        }
+        int id = in.getInt();
+        int count = in.getInt();
+        long total = in.getLong();
+        byte[] reason = new byte[in.getShort() & 0xFFFF];
+        in.get(reason);
+
+        System.out.printf("console %d, last %d of %d instructions%n", id, count, total);
+        if (reason.length > 0) {
+            System.out.printf("stopped by: %s%n", new String(reason, StandardCharsets.UTF_8));
+        }
+
+        for (int n = 0; n < count; n++) {
+            long cycles = in.getLong();
+            long regs = in.getLong();
+            long position = in.getLong();
+
+            int pc = (int) (position >>> 48) & 0xFFFF;
+            int sp = (int) (position >>> 32) & 0xFFFF;
+            int op = (int) (position >>> 16) & 0xFFFF;
+            boolean fault = (position & TraceBuffer.FLAG_FAULT) != 0;
+
+            System.out.printf("%12d  %04X  %-6s %-16s A:%02X F:%02X B:%02X C:%02X D:%02X E:%02X H:%02X L:%02X SP:%04X%s%n",
+                cycles, pc, op >= 0x100 ? String.format("CB %02X", op & 0xFF) : String.format("%02X", op), name(op),
+                (regs >>> 56) & 0xFF, (regs >>> 48) & 0xFF, (regs >>> 40) & 0xFF, (regs >>> 32) & 0xFF,
+                (regs >>> 24) & 0xFF, (regs >>> 16) & 0xFF, (regs >>> 8) & 0xFF, regs & 0xFF,
+                sp, fault ? "  <- fault" : "");
+        }
+    }
+
+    private static String name(int op) {
+        Instruction ins = op >= 0x100 ? InstructionDecoder.getCBIns(op & 0xFF) : InstructionDecoder.getIns(op);
+        return ins == null ? "?" : ins.name();
+    }
+}